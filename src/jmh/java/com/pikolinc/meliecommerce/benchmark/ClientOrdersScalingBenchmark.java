@@ -0,0 +1,173 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.MeliEcommerceApplication;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.service.ClientOrderService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@code GET /api/v1/clients/{id}/orders} (first page, through {@link ClientOrderService})
+ * as the number of orders grows from 10 thousand to 10 million.
+ * <p>
+ * The API page is read through the {@code (client_id, order_id)} index of {@code order_view}, so its
+ * cost should stay flat across {@code orderCount}; a scan would grow with it. The {@code orders} table
+ * itself is measured too, through its {@code idx_orders_client_id (id_client, id)} index: the first
+ * page of a client's orders, which should also stay flat, and {@code countByClientId}, which walks
+ * all of the client's index entries and grows with them. Orders are spread over
+ * {@value #CLIENT_COUNT} clients, so the measured client also owns more orders as the table grows.
+ * </p>
+ * <p>
+ * Rows are generated in SQL, {@value #CHUNK} per statement. By default every trial runs on a new
+ * file-backed H2 database under {@code target/jmh-h2}, as 10 million orders do not fit an in-memory
+ * one; seeding the largest size takes a few minutes. H2 indexes foreign keys on its own, so the
+ * numbers that matter for production come from PostgreSQL: point the benchmark at an empty database with
+ * {@code -jvmArgs "-Dspring.datasource.url=... -Dspring.datasource.driver-class-name=org.postgresql.Driver
+ * -Dspring.datasource.username=... -Dspring.datasource.password=..."} and a single {@code orderCount}.
+ * </p>
+ *
+ * <pre>
+ * ./mvnw -Pjmh -DskipTests verify -Djmh.args="ClientOrdersScalingBenchmark"
+ * ./mvnw -Pjmh -DskipTests verify -Djmh.args="ClientOrdersScalingBenchmark -p orderCount=10000,100000"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientOrdersScalingBenchmark {
+
+    private static final int CLIENT_COUNT = 1000;
+    private static final int ITEM_COUNT = 100;
+    private static final int PAGE_SIZE = 10;
+    private static final int CHUNK = 500_000;
+
+    private static final Path H2_DIRECTORY = Path.of("target", "jmh-h2");
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+
+    private ClientOrderService clientOrderService;
+
+    private OrderRepository orderRepository;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private final Pageable firstPage = PageRequest.of(0, PAGE_SIZE);
+
+    private final long clientId = CLIENT_COUNT / 2;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // devtools would restart the application in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command line arguments, so they override application-test.yml
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN"));
+        if (System.getProperty("spring.datasource.url") == null) {
+            FileSystemUtils.deleteRecursively(H2_DIRECTORY);
+            args.add("--spring.datasource.url=jdbc:h2:file:" + H2_DIRECTORY.toAbsolutePath().resolve("orders-" + orderCount));
+        }
+        context = new SpringApplicationBuilder(MeliEcommerceApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+
+        clientOrderService = context.getBean(ClientOrderService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    /**
+     * Inserts the clients, items, orders and order view rows with {@code INSERT ... SELECT} over a
+     * generated series, after removing the seed data of the test profile so that {@code orderCount}
+     * is the exact table size. IDs are assigned here, as nothing is inserted through JPA afterwards.
+     */
+    private void seed(JdbcTemplate jdbc) {
+        ConnectionCallback<String> seriesFunction = connection ->
+                connection.getMetaData().getDatabaseProductName().equals("H2") ? "SYSTEM_RANGE" : "generate_series";
+        String series = jdbc.execute(seriesFunction);
+
+        for (String table : List.of("order_view", "orders", "clients", "items"))
+            jdbc.update("DELETE FROM " + table);
+
+        jdbc.update("INSERT INTO clients (id, name, address, age, version)"
+                + " SELECT x, CONCAT('Client ', x), CONCAT('Street ', x), 30, 0 FROM " + series + "(1, ?) AS t(x)", CLIENT_COUNT);
+        jdbc.update("INSERT INTO items (id, name, description, price, version)"
+                + " SELECT x, CONCAT('Item ', x), CONCAT('Description ', x), 10 + x, 0 FROM " + series + "(1, ?) AS t(x)", ITEM_COUNT);
+
+        for (long from = 1; from <= orderCount; from += CHUNK) {
+            long to = Math.min(from + CHUNK - 1, orderCount);
+            jdbc.update("INSERT INTO orders (id, id_client, id_item, purchase_date, delivery_date, version)"
+                    + " SELECT x, MOD(x, ?) + 1, MOD(x, ?) + 1, DATE '2025-10-01', DATE '2025-10-04', 0"
+                    + " FROM " + series + "(?, ?) AS t(x)", CLIENT_COUNT, ITEM_COUNT, from, to);
+            jdbc.update("INSERT INTO order_view (order_id, order_version, purchase_date, delivery_date,"
+                    + " client_id, client_name, client_address, client_age, client_version,"
+                    + " item_id, item_name, item_description, item_price, item_version)"
+                    + " SELECT o.id, o.version, o.purchase_date, o.delivery_date,"
+                    + " c.id, c.name, c.address, c.age, c.version, i.id, i.name, i.description, i.price, i.version"
+                    + " FROM orders o JOIN clients c ON c.id = o.id_client JOIN items i ON i.id = o.id_item"
+                    + " WHERE o.id BETWEEN ? AND ?", from, to);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** First page of one client's orders, as {@code GET /api/v1/clients/{id}/orders} reads it. */
+    @Benchmark
+    public List<OrderResponseDTO> clientOrdersFirstPage() {
+        return clientOrderService.getOrdersByClientId(clientId, firstPage);
+    }
+
+    /**
+     * First page of one client's orders read from {@code orders} by {@code id_client}, without the read
+     * model, in a read-only transaction like the other two.
+     */
+    @Benchmark
+    public List<Order> ordersTableFirstPage() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select o from Order o where o.client.id = :clientId order by o.id", Order.class)
+                .setParameter("clientId", clientId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    /** Number of orders of one client, counted over its entries of the {@code orders} client index. */
+    @Benchmark
+    public long ordersTableCountByClient() {
+        return orderRepository.countByClientId(clientId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.domain.dto.client.ClientResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.service.ClientService;
+import com.pikolinc.meliecommerce.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of the service layer: a single order (from its {@link OrderView}) or client,
+ * and a full listing page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DtoMappingBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private List<OrderView> orders;
+
+    private OrderView order;
+
+    private Client client;
+
+    @Setup
+    public void setup() {
+        orders = Fixtures.orderViews(pageSize);
+        order = orders.get(0);
+        client = Fixtures.orders(1).get(0).getClient();
+    }
+
+    @Benchmark
+    public OrderResponseDTO orderToResponseDTO() {
+        return OrderService.toResponseDTO(order);
+    }
+
+    @Benchmark
+    public ClientResponseDTO clientToResponseDTO() {
+        return ClientService.toResponseDTO(client);
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> orderPageToResponseDTOs() {
+        return orders.stream().map(OrderService::toResponseDTO).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory entities shared by the benchmarks, shaped like a page of the order listing:
+ * distinct orders referencing a small set of clients and items.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static List<Order> orders(int count) {
+        List<Client> clients = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            clients.add(Client.builder().id(i).name("Client " + i).address("Street " + i).age(30).version(0L).build());
+            items.add(Item.builder().id(i).name("Item " + i).description("Description of item " + i).price(10.0 * i).version(0L).build());
+        }
+
+        List<Order> orders = new ArrayList<>(count);
+        LocalDate purchaseDate = LocalDate.of(2025, 10, 1);
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                    .id((long) i + 1)
+                    .client(clients.get(i % clients.size()))
+                    .item(items.get(i % items.size()))
+                    .purchaseDate(purchaseDate)
+                    .deliveryDate(purchaseDate.plusDays(3))
+                    .version(0L)
+                    .build());
+        }
+        return orders;
+    }
+
+    static List<OrderView> orderViews(int count) {
+        return orders(count).stream().map(OrderView::of).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.exception.GlobalExceptionControllerAdvice;
+import com.pikolinc.meliecommerce.exception.GlobalExceptionControllerAdvice.ErrorResponse;
+import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.ResponseException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a lookup miss with a 404: throwing a {@link NotFoundException} from the service
+ * and turning it into the error response in {@link GlobalExceptionControllerAdvice}, without a stack
+ * trace as the domain exceptions are thrown, and with one captured (as any other exception is).
+ * <p>
+ * Filling in a stack trace walks every frame of the throwing thread, so the exception is thrown
+ * {@code stackDepth} frames down; a request thread reaches the service through roughly a hundred
+ * frames of Tomcat, filters, Spring MVC, proxies and interceptors.
+ * </p>
+ *
+ * <pre>
+ * ./mvnw -Pjmh -DskipTests verify -Djmh.args="NotFoundBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NotFoundBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackTraces;
+
+    @Param({"10", "100"})
+    private int stackDepth;
+
+    private final GlobalExceptionControllerAdvice advice = new GlobalExceptionControllerAdvice();
+
+    private long missingId = 42L;
+
+    /** {@code GET /api/v1/items/{id}} for an unknown ID, from the service to the response entity. */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        try {
+            return findItem(stackDepth);
+        } catch (ResponseException e) {
+            return advice.handleResponseException(e);
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> findItem(int depth) {
+        if (depth > 0)
+            return findItem(depth - 1);
+        String message = "Item not found with id " + missingId;
+        throw stackTraces ? new TracedNotFoundException(message) : new NotFoundException(message);
+    }
+
+    /** A {@link NotFoundException} that captures its stack trace. */
+    static class TracedNotFoundException extends ResponseException {
+
+        TracedNotFoundException(String message) {
+            super(message, true);
+        }
+
+        @Override
+        public HttpStatus getHttpStatus() {
+            return HttpStatus.NOT_FOUND;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.MeliEcommerceApplication;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository reads behind the listing and detail endpoints, against the embedded H2
+ * database of the {@code test} profile seeded with {@code orderCount} orders.
+ * <p>
+ * Comparing the results across {@code orderCount} values shows whether a read stays flat as
+ * the order tables grow (index or keyset access) or degrades with it (scans).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int CLIENT_COUNT = 100;
+    private static final int ITEM_COUNT = 100;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+
+    private OrderViewRepository orderViewRepository;
+
+    private ItemRepository itemRepository;
+
+    private ClientRepository clientRepository;
+
+    private Long clientId;
+
+    private Long itemId;
+
+    private Long middleOrderId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // devtools would restart the application in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command line arguments, so they override application-test.yml
+        context = new SpringApplicationBuilder(MeliEcommerceApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+
+        orderViewRepository = context.getBean(OrderViewRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        clientRepository = context.getBean(ClientRepository.class);
+
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++)
+            clients.add(Client.builder().name("Client " + i).address("Street " + i).age(30).build());
+        clients = clientRepository.saveAll(clients);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++)
+            items.add(Item.builder().name("Item " + i).description("Description " + i).price(10.0 + i).build());
+        items = itemRepository.saveAll(items);
+
+        List<Order> orders = new ArrayList<>(orderCount);
+        LocalDate purchaseDate = LocalDate.of(2025, 10, 1);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(Order.builder()
+                    .client(clients.get(i % CLIENT_COUNT))
+                    .item(items.get(i % ITEM_COUNT))
+                    .purchaseDate(purchaseDate.plusDays(i % 365))
+                    .deliveryDate(purchaseDate.plusDays(i % 365 + 3))
+                    .build());
+        }
+        orders = context.getBean(OrderRepository.class).saveAll(orders);
+        orderViewRepository.saveAll(orders.stream().map(OrderView::of).toList());
+
+        clientId = clients.get(0).getId();
+        itemId = items.get(0).getId();
+        middleOrderId = orders.get(orderCount / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** First page of the global order listing, read from the order view. */
+    @Benchmark
+    public Slice<OrderView> orderPage() {
+        return orderViewRepository.findAllByOrderByOrderIdAsc(PageRequest.of(0, PAGE_SIZE));
+    }
+
+    /** A page in the middle of the global listing read with keyset pagination. */
+    @Benchmark
+    public List<OrderView> orderKeysetPage() {
+        return orderViewRepository.findByOrderIdGreaterThanOrderByOrderIdAsc(middleOrderId, Limit.of(PAGE_SIZE));
+    }
+
+    /**
+     * First page of one client's orders together with the client, as {@code GET /api/v1/clients/{id}/orders}
+     * reads it (uses the (client_id, order_id) index of the view).
+     */
+    @Benchmark
+    public List<ClientRepository.ClientOrder> clientOrdersPage() {
+        return clientRepository.findByIdWithOrders(clientId, PageRequest.of(0, PAGE_SIZE / 2));
+    }
+
+    /** Item lookup by ID, normally served by the second-level cache. */
+    @Benchmark
+    public Optional<Item> itemById() {
+        return itemRepository.findById(itemId);
+    }
+}
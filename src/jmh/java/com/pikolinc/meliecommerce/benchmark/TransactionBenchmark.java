@@ -0,0 +1,131 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.MeliEcommerceApplication;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import com.pikolinc.meliecommerce.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Hibernate session state kept for the read paths of {@link OrderService}, with the
+ * service call running in a read-only or in a read-write transaction.
+ * <p>
+ * In a read-write transaction Hibernate keeps a snapshot of every loaded order, client and item for
+ * dirty checking and flushes before commit, as it did before the read paths were marked
+ * {@code @Transactional(readOnly = true)}; a read-only transaction skips both. Run with the GC
+ * profiler to compare the bytes allocated per call ({@code gc.alloc.rate.norm}):
+ * </p>
+ *
+ * <pre>
+ * ./mvnw -Pjmh -DskipTests verify -Djmh.args="TransactionBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmark {
+
+    private static final int CLIENT_COUNT = 100;
+    private static final int ITEM_COUNT = 100;
+    private static final int ORDER_COUNT = 1000;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"true", "false"})
+    private boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+
+    private OrderService orderService;
+
+    private TransactionTemplate transaction;
+
+    private Long orderId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // devtools would restart the application in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command line arguments, so they override application-test.yml
+        context = new SpringApplicationBuilder(MeliEcommerceApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+
+        orderService = context.getBean(OrderService.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(readOnly);
+
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++)
+            clients.add(Client.builder().name("Client " + i).address("Street " + i).age(30).build());
+        clients = context.getBean(ClientRepository.class).saveAll(clients);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++)
+            items.add(Item.builder().name("Item " + i).description("Description " + i).price(10.0 + i).build());
+        items = context.getBean(ItemRepository.class).saveAll(items);
+
+        List<Order> orders = new ArrayList<>(ORDER_COUNT);
+        LocalDate purchaseDate = LocalDate.of(2025, 10, 1);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(Order.builder()
+                    .client(clients.get(i % CLIENT_COUNT))
+                    .item(items.get(i % ITEM_COUNT))
+                    .purchaseDate(purchaseDate.plusDays(i % 365))
+                    .deliveryDate(purchaseDate.plusDays(i % 365 + 3))
+                    .build());
+        }
+        orders = context.getBean(OrderRepository.class).saveAll(orders);
+        context.getBean(OrderViewRepository.class).saveAll(orders.stream().map(OrderView::of).toList());
+        orderId = orders.get(ORDER_COUNT / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** {@code GET /api/v1/orders?size=100}: one page of orders with their client and item. */
+    @Benchmark
+    public List<OrderResponseDTO> orderPage() {
+        return transaction.execute(status -> orderService.getAllOrders(PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    /** {@code GET /api/v1/orders?after=0&size=100}: the same page read with keyset pagination. */
+    @Benchmark
+    public CursorPage<OrderResponseDTO> orderKeysetPage() {
+        return transaction.execute(status -> orderService.getOrdersAfter(0L, PAGE_SIZE));
+    }
+
+    /** {@code GET /api/v1/orders/{id}}: a single order. */
+    @Benchmark
+    public OrderResponseDTO orderById() {
+        return transaction.execute(status -> orderService.getOrderById(orderId));
+    }
+}
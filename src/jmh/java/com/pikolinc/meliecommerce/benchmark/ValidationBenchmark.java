@@ -0,0 +1,75 @@
+package com.pikolinc.meliecommerce.benchmark;
+
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchCreateDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean validation of order creation requests, as run by {@code @Valid} before the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private OrderCreateDTO validOrder;
+
+    private OrderCreateDTO invalidOrder;
+
+    private OrderBatchCreateDTO batch;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        LocalDate today = LocalDate.of(2025, 10, 1);
+        validOrder = new OrderCreateDTO(1L, 1L, today, today.plusDays(3));
+        invalidOrder = new OrderCreateDTO(null, 1L, today, null);
+
+        List<OrderCreateDTO> orders = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < BATCH_SIZE; i++)
+            orders.add(new OrderCreateDTO(i + 1, i + 1, today, today.plusDays(3)));
+        batch = new OrderBatchCreateDTO(orders);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderCreateDTO>> validateValidOrder() {
+        return validator.validate(validOrder);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderCreateDTO>> validateInvalidOrder() {
+        return validator.validate(invalidOrder);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Set<ConstraintViolation<OrderBatchCreateDTO>> validateBatchOfOrders() {
+        return validator.validate(batch);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pikolinc.meliecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IDs of the clients, items and orders seeded through the API, used to build requests
+ * that hit existing rows.
+ */
+final class DataSet {
+
+    private static final int ORDER_BATCH_SIZE = 1_000;
+
+    final long[] clientIds;
+    final long[] itemIds;
+    final long[] orderIds;
+    final long[] orderClientIds;
+
+    private DataSet(long[] clientIds, long[] itemIds, long[] orderIds, long[] orderClientIds) {
+        this.clientIds = clientIds;
+        this.itemIds = itemIds;
+        this.orderIds = orderIds;
+        this.orderClientIds = orderClientIds;
+    }
+
+    /**
+     * Seeds clients and items one request at a time (in parallel on {@code executor}) and orders
+     * through {@code POST /api/v1/orders/batch}.
+     */
+    static DataSet seed(LoadTestConfig config, HttpClient http, ObjectMapper json, String baseUrl,
+                        ExecutorService executor) throws Exception {
+        List<Future<Long>> clientFutures = new ArrayList<>();
+        for (int i = 0; i < config.clients(); i++) {
+            String body = "{\"name\":\"Client " + i + "\",\"address\":\"Street " + i + "\",\"age\":" + (18 + i % 60) + "}";
+            clientFutures.add(executor.submit(() -> post(http, json, baseUrl + "/api/v1/clients", body).get("id").asLong()));
+        }
+        List<Future<Long>> itemFutures = new ArrayList<>();
+        for (int i = 0; i < config.items(); i++) {
+            String body = "{\"name\":\"Item " + i + "\",\"description\":\"Description of item " + i + "\",\"price\":" + (5 + i % 500) + ".0}";
+            itemFutures.add(executor.submit(() -> post(http, json, baseUrl + "/api/v1/items", body).get("id").asLong()));
+        }
+        long[] clientIds = collect(clientFutures);
+        long[] itemIds = collect(itemFutures);
+
+        long[] orderIds = new long[config.orders()];
+        long[] orderClientIds = new long[config.orders()];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+        for (int start = 0; start < config.orders(); start += ORDER_BATCH_SIZE) {
+            int end = Math.min(start + ORDER_BATCH_SIZE, config.orders());
+            StringBuilder body = new StringBuilder("{\"orders\":[");
+            for (int i = start; i < end; i++) {
+                orderClientIds[i] = clientIds[random.nextInt(clientIds.length)];
+                if (i > start)
+                    body.append(',');
+                body.append("{\"clientId\":").append(orderClientIds[i])
+                        .append(",\"itemId\":").append(itemIds[random.nextInt(itemIds.length)])
+                        .append(",\"purchaseDate\":\"").append(today.minusDays(i % 365))
+                        .append("\",\"deliveryDate\":\"").append(today.minusDays(i % 365).plusDays(3))
+                        .append("\"}");
+            }
+            body.append("]}");
+
+            JsonNode results = post(http, json, baseUrl + "/api/v1/orders/batch", body.toString());
+            for (JsonNode result : results)
+                orderIds[start + result.get("index").asInt()] = result.get("order").get("id").asLong();
+        }
+
+        return new DataSet(clientIds, itemIds, orderIds, orderClientIds);
+    }
+
+    private static JsonNode post(HttpClient http, ObjectMapper json, String url, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201)
+            throw new IllegalStateException("Seeding " + url + " failed with " + response.statusCode() + ": " + response.body());
+        return json.readTree(response.body());
+    }
+
+    private static long[] collect(List<Future<Long>> futures) throws Exception {
+        long[] ids = new long[futures.size()];
+        for (int i = 0; i < ids.length; i++)
+            ids[i] = futures.get(i).get();
+        return ids;
+    }
+}
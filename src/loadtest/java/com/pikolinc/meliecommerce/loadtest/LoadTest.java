@@ -0,0 +1,233 @@
+package com.pikolinc.meliecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.MeliEcommerceApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP load test of the REST API.
+ * <p>
+ * Boots the application on the {@code test} profile (embedded H2), plus any extra {@code profiles},
+ * unless {@code baseUrl} points to a running instance, seeds clients, items and orders through the API, then lets
+ * {@code threads} virtual users send requests back to back, each picking a route from the
+ * weighted {@code mix}. After the warmup, the latency of every request is recorded in an
+ * HdrHistogram per route.
+ * </p>
+ * <p>
+ * The report prints throughput and p50/p99/p99.9/max latency per route and writes the full
+ * percentile distribution of every route to {@code <outputDir>/<route>.hgrm}, which can be
+ * plotted with the HdrHistogram plotter.
+ * </p>
+ * <p>
+ * Users wait for each response before sending the next request (closed model), so latency
+ * under overload shows up as lower throughput rather than as queueing delay.
+ * </p>
+ * <p>
+ * With {@code compareThreads=true}, the whole run is done twice on a freshly booted application,
+ * on platform threads and then with the {@code virtual-threads} profile (Java 21), and the totals
+ * of both are printed side by side. The histograms of each go to a subdirectory of {@code outputDir}.
+ * </p>
+ */
+public final class LoadTest {
+
+    /** Longest latency the histograms can record, in microseconds. */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        if (!config.compareThreads()) {
+            run(config);
+            return;
+        }
+
+        if (!config.baseUrl().isBlank())
+            throw new IllegalArgumentException("compareThreads boots the application twice and cannot target a baseUrl");
+        // Fail before the platform run rather than after it
+        if (Runtime.version().feature() < 21)
+            throw new IllegalStateException("compareThreads needs Java 21 (-Pjava21), the harness runs on Java "
+                    + Runtime.version().feature());
+        Histogram platform = run(config.variant("platform-threads", config.profiles()));
+        Histogram virtual = run(config.variant("virtual-threads",
+                config.profiles().isBlank() ? "virtual-threads" : config.profiles() + ",virtual-threads"));
+
+        double seconds = config.duration().toMillis() / 1000.0;
+        System.out.println("Platform threads vs virtual threads, all routes:");
+        System.out.printf("%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "threads", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        printRow("platform", platform, -1, seconds);
+        printRow("virtual", virtual, -1, seconds);
+    }
+
+    /**
+     * Boots the application unless {@code baseUrl} is set, seeds it, drives the mix and prints the report.
+     *
+     * @return the latency of all recorded requests
+     */
+    private static Histogram run(LoadTestConfig config) throws Exception {
+        ConfigurableApplicationContext context = config.baseUrl().isBlank() ? boot(config) : null;
+        String baseUrl = context == null
+                ? config.baseUrl()
+                : "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            System.out.printf("Seeding %d clients, %d items and %d orders on %s%n",
+                    config.clients(), config.items(), config.orders(), baseUrl);
+            DataSet data = DataSet.seed(config, http, new ObjectMapper(), baseUrl, executor);
+
+            Map<Route, Stats> stats = run(config, http, baseUrl, data, executor);
+            return report(config, stats);
+        } finally {
+            executor.shutdownNow();
+            if (context != null)
+                context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(LoadTestConfig config) {
+        // devtools would restart the application in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command line arguments, so they override application-test.yml
+        return new SpringApplicationBuilder(MeliEcommerceApplication.class)
+                .profiles("test")
+                .profiles(config.profiles().isBlank() ? new String[0] : config.profiles().split(","))
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+    }
+
+    private static Map<Route, Stats> run(LoadTestConfig config, HttpClient http, String baseUrl, DataSet data,
+                                         ExecutorService executor) throws Exception {
+        Map<Route, Stats> stats = new EnumMap<>(Route.class);
+        List<Route> weighted = new ArrayList<>();
+        config.mix().forEach((key, weight) -> {
+            Route route = Route.byKey(key);
+            if (weight > 0)
+                stats.put(route, new Stats());
+            for (int i = 0; i < weight; i++)
+                weighted.add(route);
+        });
+        if (weighted.isEmpty())
+            throw new IllegalArgumentException("The mix has no route with a positive weight");
+
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+
+        System.out.printf("Warming up for %ds, then recording for %ds with %d users%n",
+                config.warmup().toSeconds(), config.duration().toSeconds(), config.threads());
+        List<Future<?>> users = new ArrayList<>();
+        for (int i = 0; i < config.threads(); i++) {
+            users.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    Route route = weighted.get(random.nextInt(weighted.size()));
+                    int status;
+                    try {
+                        status = http.send(route.request(baseUrl, data, random).build(),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    }
+                    long latencyMicros = (System.nanoTime() - now) / 1_000;
+                    if (now >= warmupEnd)
+                        stats.get(route).record(latencyMicros, status);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> user : users)
+            user.get();
+        return stats;
+    }
+
+    private static Histogram report(LoadTestConfig config, Map<Route, Stats> stats) throws IOException {
+        Files.createDirectories(config.outputDir());
+        double seconds = config.duration().toMillis() / 1000.0;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Route, Stats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long errors = entry.getValue().errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            printRow(entry.getKey().key, histogram, errors, seconds);
+            write(config, entry.getKey().key, histogram);
+        }
+        printRow("TOTAL", total, totalErrors, seconds);
+        write(config, "total", total);
+        System.out.println();
+        System.out.println("Percentile distributions written to " + config.outputDir().toAbsolutePath());
+        System.out.println();
+        return total;
+    }
+
+    /** Prints a report row; a negative error count is left blank. */
+    private static void printRow(String name, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-18s %9d %7s %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors < 0 ? "" : String.valueOf(errors),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void write(LoadTestConfig config, String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(config.outputDir().resolve(name + ".hgrm")))) {
+            // Values are recorded in microseconds and written in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    /** Latency recorder and error count of one route. */
+    private static final class Stats {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyMicros, int status) {
+            recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+            if (status < 200 || status >= 300)
+                errors.increment();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.pikolinc.meliecommerce.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, parsed from {@code key=value} command line arguments.
+ *
+ * @param baseUrl   URL of a running instance; empty to boot the application on H2 in-process
+ * @param profiles  Spring profiles added to {@code test} when booting in-process (e.g. {@code virtual-threads})
+ * @param clients   number of clients to seed
+ * @param items     number of items to seed
+ * @param orders    number of orders to seed
+ * @param threads   number of concurrent virtual users, each sending one request at a time
+ * @param warmup    how long to drive traffic before recording
+ * @param duration  how long to record
+ * @param mix       relative weight of every route, by route name
+ * @param outputDir directory receiving the {@code .hgrm} histogram files
+ * @param compareThreads whether to run on platform threads, then on virtual threads, and compare them
+ */
+record LoadTestConfig(
+        String baseUrl,
+        String profiles,
+        int clients,
+        int items,
+        int orders,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        Path outputDir,
+        boolean compareThreads
+) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0)
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestConfig(
+                values.getOrDefault("baseUrl", ""),
+                values.getOrDefault("profiles", ""),
+                Integer.parseInt(values.getOrDefault("clients", "1000")),
+                Integer.parseInt(values.getOrDefault("items", "1000")),
+                Integer.parseInt(values.getOrDefault("orders", "10000")),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                parseDuration(values.getOrDefault("duration", "30s")),
+                parseMix(values.get("mix")),
+                Path.of(values.getOrDefault("outputDir", "target/loadtest")),
+                Boolean.parseBoolean(values.getOrDefault("compareThreads", "false"))
+        );
+    }
+
+    /**
+     * Settings of one run of a comparison.
+     *
+     * @param name     name of the run, used as the subdirectory of {@code outputDir}
+     * @param profiles Spring profiles of the run
+     * @return the settings of a single run with these profiles
+     */
+    LoadTestConfig variant(String name, String profiles) {
+        return new LoadTestConfig(baseUrl, profiles, clients, items, orders, threads, warmup, duration, mix,
+                outputDir.resolve(name), false);
+    }
+
+    /** Parses {@code 30s}, {@code 2m} or ISO-8601 ({@code PT30S}) durations. */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms"))
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s"))
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m"))
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.parse(value);
+    }
+
+    /** Parses {@code route:weight,route:weight}; routes left out keep their default weight. */
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>(Route.DEFAULT_MIX);
+        if (value == null || value.isBlank())
+            return mix;
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || !mix.containsKey(parts[0]))
+                throw new IllegalArgumentException("Unknown mix entry " + entry + ", routes are " + mix.keySet());
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,160 @@
+package com.pikolinc.meliecommerce.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Routes driven by the load test, mirroring the requests of {@code MELI-ecommerce.postman_collection.json}.
+ * <p>
+ * Deletes are left out: they would shrink the seeded data set while the test runs and turn
+ * later reads into 404s. The default weights model a read-heavy storefront.
+ * </p>
+ */
+enum Route {
+
+    LIST_ITEMS("listItems", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/items?page=" + random.nextInt(10) + "&size=10");
+        }
+    },
+    GET_ITEM("getItem", 25) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/items/" + pick(data.itemIds, random));
+        }
+    },
+    UPDATE_ITEM("updateItem", 2) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return put(baseUrl + "/api/v1/items/" + pick(data.itemIds, random),
+                    "{\"name\":\"Item\",\"description\":\"Updated by the load test\",\"price\":" + (5 + random.nextInt(500)) + ".0}");
+        }
+    },
+    LIST_CLIENTS("listClients", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/clients?page=" + random.nextInt(10) + "&size=10");
+        }
+    },
+    GET_CLIENT("getClient", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/clients/" + pick(data.clientIds, random));
+        }
+    },
+    UPDATE_CLIENT("updateClient", 2) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return put(baseUrl + "/api/v1/clients/" + pick(data.clientIds, random),
+                    "{\"name\":\"Client\",\"address\":\"Updated by the load test\",\"age\":" + (18 + random.nextInt(60)) + "}");
+        }
+    },
+    LIST_ORDERS("listOrders", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/orders?page=" + random.nextInt(10) + "&size=20");
+        }
+    },
+    GET_ORDER("getOrder", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/orders/" + pick(data.orderIds, random));
+        }
+    },
+    CREATE_ORDER("createOrder", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return post(baseUrl + "/api/v1/orders", "{\"clientId\":" + pick(data.clientIds, random)
+                    + ",\"itemId\":" + pick(data.itemIds, random) + "," + dates() + "}");
+        }
+    },
+    UPDATE_ORDER("updateOrder", 2) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            // Keeps the owner, so getClientOrder keeps finding the order under its client
+            int order = random.nextInt(data.orderIds.length);
+            return put(baseUrl + "/api/v1/orders/" + data.orderIds[order], "{\"clientId\":" + data.orderClientIds[order]
+                    + ",\"itemId\":" + pick(data.itemIds, random) + "," + dates() + "}");
+        }
+    },
+    LIST_CLIENT_ORDERS("listClientOrders", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/v1/clients/" + pick(data.clientIds, random) + "/orders?page=0&size=10");
+        }
+    },
+    GET_CLIENT_ORDER("getClientOrder", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            int order = random.nextInt(data.orderIds.length);
+            return get(baseUrl + "/api/v1/clients/" + data.orderClientIds[order] + "/orders/" + data.orderIds[order]);
+        }
+    },
+    CREATE_CLIENT_ORDER("createClientOrder", 4) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random) {
+            return post(baseUrl + "/api/v1/clients/" + pick(data.clientIds, random) + "/orders",
+                    "{\"itemId\":" + pick(data.itemIds, random) + "," + dates() + "}");
+        }
+    };
+
+    /** Default weight of every route, by route name. */
+    static final Map<String, Integer> DEFAULT_MIX;
+
+    static {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (Route route : values())
+            mix.put(route.key, route.defaultWeight);
+        DEFAULT_MIX = Collections.unmodifiableMap(mix);
+    }
+
+    final String key;
+
+    private final int defaultWeight;
+
+    Route(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /** Builds a request of this route against seeded rows. */
+    abstract HttpRequest.Builder request(String baseUrl, DataSet data, ThreadLocalRandom random);
+
+    static Route byKey(String key) {
+        for (Route route : values())
+            if (route.key.equals(key))
+                return route;
+        throw new IllegalArgumentException("Unknown route " + key);
+    }
+
+    private static long pick(long[] ids, ThreadLocalRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static String dates() {
+        LocalDate today = LocalDate.now();
+        return "\"purchaseDate\":\"" + today + "\",\"deliveryDate\":\"" + today.plusDays(3) + "\"";
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder put(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body));
+    }
+}
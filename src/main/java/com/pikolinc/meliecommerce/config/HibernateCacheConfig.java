@@ -0,0 +1,92 @@
+package com.pikolinc.meliecommerce.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ * <p>
+ * Where the cache is enabled ({@code hibernate.cache.use_second_level_cache}: on by default, off
+ * by default in the prod profile), {@code Item} and {@code Client} entities are cached in
+ * Caffeine-backed JCache regions, so lookups by ID (e.g. {@code getItemById}) are served from memory
+ * instead of the database. Where it is off, every lookup reads the database; the regions are still
+ * created, but stay empty. The regions, their size bounds and expiry are
+ * declared in {@code hibernate-cache.conf}. Entries are updated or evicted by Hibernate itself
+ * when an entity is updated or deleted through JPA ({@code READ_WRITE} strategy).
+ * </p>
+ * <p>
+ * The regions are local to the JVM: a write evicts or refreshes the entry of the instance that made
+ * it only. The cache is therefore only consistent for a single instance; the prod profile turns it
+ * off unless {@code HIBERNATE_SECOND_LEVEL_CACHE=true} (see {@code application-prod.yml}).
+ * </p>
+ * <p>
+ * The {@link CacheManager} is created here rather than by Hibernate so the same instance can be
+ * bound to Micrometer, exposing {@code cache.gets{result=hit|miss}}, {@code cache.puts} and
+ * {@code cache.evictions} per region through the actuator metrics endpoint.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /** Region holding {@code Item} entities. */
+    public static final String ITEMS_REGION = "items";
+
+    /** Region holding {@code Client} entities. */
+    public static final String CLIENTS_REGION = "clients";
+
+    /**
+     * Creates the JCache manager holding the second-level cache regions.
+     * <p>
+     * A dedicated provider instance is used instead of the JVM-wide one from {@link Caching}, which
+     * hands out one manager per configuration URI: with it, closing one application context (e.g. a
+     * test context that fails to start) would close the regions of every other context in the JVM.
+     * </p>
+     *
+     * @param config the Caffeine (Typesafe config) file declaring the regions
+     * @return the {@link CacheManager} used by Hibernate
+     * @throws IOException if the configuration file cannot be resolved
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.config:classpath:hibernate-cache.conf}") Resource config) throws IOException {
+        return new CaffeineCachingProvider().getCacheManager(config.getURI(), getClass().getClassLoader());
+    }
+
+    /**
+     * Hands the {@link CacheManager} bean to Hibernate's JCache region factory.
+     *
+     * @param hibernateCacheManager the cache manager holding the regions
+     * @return a customizer adding the cache manager to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Registers hit, miss, put and eviction meters for every second-level cache region.
+     *
+     * @param hibernateCacheManager the cache manager holding the regions
+     * @return a {@link MeterBinder} for the cache regions
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : new String[]{ITEMS_REGION, CLIENTS_REGION}) {
+                new JCacheMetrics<>(hibernateCacheManager.getCache(region), Tags.empty()).bindTo(registry);
+            }
+        };
+    }
+}
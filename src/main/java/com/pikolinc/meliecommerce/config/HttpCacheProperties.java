@@ -0,0 +1,82 @@
+package com.pikolinc.meliecommerce.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@code Cache-Control} policies of the HTTP endpoints, bound from {@code app.http-cache}.
+ * <p>
+ * Each entry of {@code endpoints} is keyed by an endpoint name chosen by the controller
+ * (e.g. {@code item-detail}); endpoints without an entry send no {@code Cache-Control} header.
+ * </p>
+ *
+ * <pre>
+ * app:
+ *   http-cache:
+ *     endpoints:
+ *       item-detail:
+ *         max-age: 30s
+ *         must-revalidate: true
+ * </pre>
+ *
+ * @param endpoints the cache policy of every configured endpoint
+ */
+@ConfigurationProperties(prefix = "app.http-cache")
+public record HttpCacheProperties(Map<String, Policy> endpoints) {
+
+    public HttpCacheProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    /**
+     * Builds the {@link CacheControl} of the given endpoint.
+     *
+     * @param endpoint the endpoint name used as key in {@code app.http-cache.endpoints}
+     * @return the configured {@link CacheControl}, or {@link CacheControl#empty()} if none is configured
+     */
+    public CacheControl cacheControl(String endpoint) {
+        Policy policy = endpoints.get(endpoint);
+        return policy == null ? CacheControl.empty() : policy.toCacheControl();
+    }
+
+    /**
+     * Cache policy of one endpoint. {@code no-store} takes precedence over {@code no-cache},
+     * which takes precedence over {@code max-age}.
+     *
+     * @param maxAge         how long a response may be reused without revalidation
+     * @param noCache        whether caches must revalidate (e.g. with {@code If-None-Match}) before every reuse
+     * @param noStore        whether responses must not be stored at all
+     * @param cachePrivate   whether only the client, and not shared caches, may store responses
+     * @param mustRevalidate whether stale responses must not be used without revalidation
+     */
+    public record Policy(
+            Duration maxAge,
+            boolean noCache,
+            boolean noStore,
+            boolean cachePrivate,
+            boolean mustRevalidate
+    ) {
+
+        CacheControl toCacheControl() {
+            if (noStore)
+                return CacheControl.noStore();
+
+            CacheControl cacheControl;
+            if (noCache)
+                cacheControl = CacheControl.noCache();
+            else if (maxAge != null)
+                cacheControl = CacheControl.maxAge(maxAge);
+            else
+                cacheControl = CacheControl.empty();
+
+            if (cachePrivate)
+                cacheControl = cacheControl.cachePrivate();
+            if (mustRevalidate)
+                cacheControl = cacheControl.mustRevalidate();
+            return cacheControl;
+        }
+    }
+}
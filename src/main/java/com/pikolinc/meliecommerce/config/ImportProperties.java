@@ -0,0 +1,27 @@
+package com.pikolinc.meliecommerce.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the bulk CSV/NDJSON imports, bound from {@code app.import}.
+ *
+ * <pre>
+ * app:
+ *   import:
+ *     batch-size: 500
+ *     max-reported-errors: 100
+ * </pre>
+ *
+ * @param batchSize         valid rows written per transaction and per JDBC batch, at least 1
+ * @param maxReportedErrors rejected rows listed in the response; further rejections are only counted
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.import")
+public record ImportProperties(
+        @DefaultValue("500") @Min(1) int batchSize,
+        @DefaultValue("100") @Min(0) int maxReportedErrors
+) {
+}
@@ -0,0 +1,55 @@
+package com.pikolinc.meliecommerce.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the application metrics, exported through the actuator {@code metrics} and
+ * {@code prometheus} endpoints.
+ * <p>
+ * Every controller route is timed by Spring MVC ({@code http.server.requests}, tagged with the URI
+ * template) and every public method of the {@code service} package by {@code @Timed}
+ * ({@link #SERVICE_TIMER}, tagged with {@code class} and {@code method}), both with percentile
+ * histograms. Hibernate statistics are bound here, so database work can be told apart from mapping
+ * and serialization time: query counts and durations, entity loads, fetches and inserts, flushes and
+ * second-level cache hits and misses ({@code hibernate.*}).
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Timer recording every public service method. */
+    public static final String SERVICE_TIMER = "meli.service";
+
+    /** Value of the {@code entityManagerFactory} tag of the Hibernate meters. */
+    private static final String SESSION_FACTORY_NAME = "entityManagerFactory";
+
+    /**
+     * Registers the Hibernate statistics (sessions, transactions, queries, entities, collections and
+     * second-level cache) as meters.
+     *
+     * @param entityManagerFactory the JPA entity manager factory
+     * @return a {@link MeterBinder} for the Hibernate statistics
+     */
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), SESSION_FACTORY_NAME, Tags.empty());
+    }
+
+    /**
+     * Registers a {@code hibernate.query} timer per HQL query, tagged with the query string.
+     *
+     * @param entityManagerFactory the JPA entity manager factory
+     * @return a {@link MeterBinder} for the per-query statistics
+     */
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class), SESSION_FACTORY_NAME, Tags.empty());
+    }
+}
@@ -0,0 +1,33 @@
+package com.pikolinc.meliecommerce.config;
+
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Completes the {@link OrderView order view} at startup, as a one-off operational step.
+ * <p>
+ * The order services write a row for every order they create, and {@code V5__order_view.sql}
+ * backfilled the orders that existed before it. After orders were inserted by other means (legacy
+ * scripts, bulk SQL), start one instance with {@code app.order-view.reconcile-on-startup=true} to give
+ * them their row. It is off by default: the reconcile walks the whole {@code orders} table before the
+ * application reports itself ready, which is not worth paying on every deploy.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order-view.reconcile-on-startup", havingValue = "true")
+public class OrderViewConfig {
+
+    private final OrderService orderService;
+
+    /** Creates the rows missing from the order view. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOrderView() {
+        orderService.reconcileOrderView();
+    }
+}
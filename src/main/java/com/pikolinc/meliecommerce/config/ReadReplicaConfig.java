@@ -0,0 +1,100 @@
+package com.pikolinc.meliecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to the read replicas declared in {@code app.datasource.replicas}.
+ * <p>
+ * Only active when at least one replica is configured. The application {@link DataSource} is then a
+ * {@link LazyConnectionDataSourceProxy}: the physical connection is fetched on the first statement,
+ * once the transaction manager has marked the connection read-only, so
+ * {@code @Transactional(readOnly = true)} service methods are served by a replica and every other
+ * statement (writes, Flyway migrations) by the primary {@code spring.datasource}.
+ * </p>
+ * <p>
+ * Each replica gets its own HikariCP pool, sized and tuned like the primary from
+ * {@code spring.datasource.hikari}, marked read-only and named {@code <pool-name>-replica-<n>} in the
+ * {@code hikaricp.*} metrics. Replicas are used in turn ({@link ReplicaDataSource}).
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas[0].url")
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * Creates the connection pool of the primary database, as Spring Boot would without replicas.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return the primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates one connection pool per replica.
+     *
+     * @param primary       the {@code spring.datasource} properties, for the driver and default credentials
+     * @param properties    the configured replicas
+     * @param environment   the environment holding the {@code spring.datasource.hikari} settings
+     * @param meterRegistry the registry of the pool metrics, if any
+     * @return the replica pools behind a round-robin {@link DataSource}
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(DataSourceProperties primary, ReplicaDataSourceProperties properties,
+                                               Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Replica replica : properties.replicas()) {
+            HikariDataSource dataSource = binder.bind(HIKARI_PREFIX, Bindable.ofInstance(new HikariDataSource()))
+                    .orElseGet(HikariDataSource::new);
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setDriverClassName(primary.determineDriverClassName());
+            dataSource.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+            dataSource.setReadOnly(true);
+            String poolName = dataSource.getPoolName();
+            dataSource.setPoolName((poolName != null ? poolName + "-" : "") + "replica-" + (replicas.size() + 1));
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(dataSource);
+        }
+        return new ReplicaDataSource(replicas);
+    }
+
+    /**
+     * Creates the application {@link DataSource}, sending read-only connections to the replicas.
+     *
+     * @param primaryDataSource the primary connection pool
+     * @param replicaDataSource the replica connection pools
+     * @return the routing {@link DataSource} used by JPA and Flyway
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
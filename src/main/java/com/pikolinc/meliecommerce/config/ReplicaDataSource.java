@@ -0,0 +1,42 @@
+package com.pikolinc.meliecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link javax.sql.DataSource} spreading connection requests over the read replica pools in
+ * round-robin order. Closing it closes every replica pool.
+ */
+public class ReplicaDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param replicas the connection pools of the replicas, at least one
+     */
+    public ReplicaDataSource(List<HikariDataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.replicas.size(); i++)
+            targets.put(i, this.replicas.get(i));
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
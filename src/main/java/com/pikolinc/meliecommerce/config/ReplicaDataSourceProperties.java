@@ -0,0 +1,41 @@
+package com.pikolinc.meliecommerce.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Read replicas of the primary database, bound from {@code app.datasource}.
+ * <p>
+ * When at least one replica is configured, read-only transactions are served by the replicas
+ * (see {@link ReadReplicaConfig}); without replicas every statement goes to the primary
+ * {@code spring.datasource}.
+ * </p>
+ *
+ * <pre>
+ * app:
+ *   datasource:
+ *     replicas:
+ *       - url: jdbc:postgresql://replica-1:5432/meli
+ *       - url: jdbc:postgresql://replica-2:5432/meli
+ * </pre>
+ *
+ * @param replicas the replica connections, used in turn
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record ReplicaDataSourceProperties(List<Replica> replicas) {
+
+    public ReplicaDataSourceProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    /**
+     * Connection to one replica. Credentials default to the ones of the primary.
+     *
+     * @param url      the JDBC URL of the replica
+     * @param username the user name, or {@code null} to use {@code spring.datasource.username}
+     * @param password the password, or {@code null} to use {@code spring.datasource.password}
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.pikolinc.meliecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Guard of the {@code virtual-threads} profile.
+ * <p>
+ * Spring Boot only honours {@code spring.threads.virtual.enabled} on Java 21 or later and
+ * silently falls back to platform threads otherwise. Since the profile exists to raise the
+ * number of requests an instance can hold, running it on an older JVM is a deployment error:
+ * startup fails instead of serving at a fraction of the expected capacity.
+ * </p>
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    /** First Java release with virtual threads. */
+    static final int MIN_JAVA_VERSION = 21;
+
+    /**
+     * Fails startup when the JVM cannot run virtual threads.
+     *
+     * @throws IllegalStateException if the JVM is older than Java 21
+     */
+    public VirtualThreadsConfig() {
+        int version = Runtime.version().feature();
+        if (version < MIN_JAVA_VERSION)
+            throw new IllegalStateException("The virtual-threads profile requires Java " + MIN_JAVA_VERSION
+                    + " or later, but the application runs on Java " + version);
+    }
+}
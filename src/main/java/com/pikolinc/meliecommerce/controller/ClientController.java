@@ -1,19 +1,33 @@
 package com.pikolinc.meliecommerce.controller;
 
+import com.pikolinc.meliecommerce.domain.dto.importing.ImportResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientResponseDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
+import com.pikolinc.meliecommerce.domain.dto.page.PageHeaders;
+import com.pikolinc.meliecommerce.domain.dto.page.PageSize;
+import com.pikolinc.meliecommerce.service.ImportService;
 import com.pikolinc.meliecommerce.service.ClientService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -25,6 +39,7 @@ import java.util.List;
 @RestController
 @RequestMapping("api/v1/clients")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Clients", description = "Operations related to Clients")
 public class ClientController {
 
@@ -32,31 +47,58 @@ public class ClientController {
 
     /**
      * Retrieves a paginated list of clients.
+     * <p>
+     * When the {@code after} cursor is present, the page is read with keyset pagination
+     * ({@code id > :after ORDER BY id}) instead of an offset, and the cursor of the next page
+     * is returned in the {@value CursorPage#NEXT_CURSOR_HEADER} header. A blank cursor starts
+     * from the first client.
+     * </p>
+     * <p>
+     * The total number of clients is only counted when {@code withTotal} is {@code true},
+     * and is returned in the {@value PageHeaders#TOTAL_COUNT} header.
+     * </p>
      *
-     * @param page the page number to retrieve (default is 0)
-     * @param size the number of clients per page (default is 10)
+     * @param page      the page number to retrieve (default is 0), ignored in cursor mode
+     * @param size      the number of clients per page (default is 10, at most {@value PageSize#MAX})
+     * @param after     the opaque cursor returned by the previous page (optional)
+     * @param withTotal whether to count the total number of clients (default is false)
      * @return a {@link ResponseEntity} containing a list of {@link ClientResponseDTO}
      */
     @GetMapping({"", "/"})
-    @Operation(summary = "Get a page of clients", description = "Returns a page of registered clients")
+    @Operation(summary = "Get a page of clients", description = "Returns a page of registered clients. Pass the `after` cursor to read the next page with keyset pagination; the cursor of the following page is returned in the X-Next-Cursor header. Pass `withTotal=true` to receive the total count in the X-Total-Count header")
     public ResponseEntity<List<ClientResponseDTO>> getAllClients(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(PageSize.MIN) @Max(PageSize.MAX) int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withTotal)
+            response.header(PageHeaders.TOTAL_COUNT, String.valueOf(this.clientService.countClients()));
+
+        if (after != null) {
+            CursorPage<ClientResponseDTO> cursorPage = this.clientService.getClientsAfter(CursorPage.decode(after), size);
+            if (cursorPage.nextCursor() != null)
+                response.header(CursorPage.NEXT_CURSOR_HEADER, cursorPage.nextCursor());
+
+            return response.body(cursorPage.content());
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(this.clientService.getAllClients(pageable));
+        return response.body(this.clientService.getAllClients(pageable));
     }
 
     /**
      * Retrieves a single client by its ID.
      *
      * @param id the unique identifier of the client
-     * @return a {@link ResponseEntity} containing the {@link ClientResponseDTO}
+     * @return a {@link ResponseEntity} containing the {@link ClientResponseDTO} and its {@code ETag}
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get a single client", description = "Returns the client with the given id")
     public ResponseEntity<ClientResponseDTO> getClientById(@PathVariable Long id) {
-        return ResponseEntity.ok(this.clientService.getClientById(id));
+        ClientResponseDTO client = this.clientService.getClientById(id);
+        return ResponseEntity.ok().eTag(ETags.of(client.version())).body(client);
     }
 
     /**
@@ -73,20 +115,54 @@ public class ClientController {
                 .body(this.clientService.addClient(clientCreateDTO));
     }
 
+    /**
+     * Creates clients in bulk from a CSV or NDJSON body.
+     * <p>
+     * The body is read while it is uploaded and valid rows are written in batches. Invalid rows
+     * are skipped and reported with their line number. The response status is {@code 201 Created}
+     * when every row was imported and {@code 207 Multi-Status} when some rows were rejected.
+     * </p>
+     *
+     * @param contentType {@code text/csv} (with a header line) or {@code application/x-ndjson}
+     * @param body        the rows to import
+     * @return a {@link ResponseEntity} containing the {@link ImportResultDTO}
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {ImportService.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import clients from a CSV or NDJSON body", description = "CSV bodies start with a header line naming the columns (name,address,age); NDJSON bodies hold one client object per line. Rejected rows are listed with their line number and do not abort the import")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(mediaType = ImportService.TEXT_CSV_VALUE, schema = @Schema(type = "string")),
+            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(type = "string"))
+    })
+    public ResponseEntity<ImportResultDTO> importClients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        ImportResultDTO result = this.clientService.importClients(body, contentType);
+        return ResponseEntity.status(result.httpStatus()).body(result);
+    }
+
     /**
      * Updates an existing client's information.
+     * <p>
+     * When {@code If-Match} is present, the update only applies to the version it names.
+     * The response carries the {@code ETag} of the new version.
+     * </p>
      *
      * @param id              the unique identifier of the client
      * @param clientUpdateDTO the data transfer object containing updated client details
+     * @param ifMatch         the {@code ETag} the update is based on (optional)
      * @return a {@link ResponseEntity} containing the updated {@link ClientResponseDTO}
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Update client information", description = "Updates an existing client with the given ClientUpdateDTO as the request body")
+    @Operation(summary = "Update client information", description = "Updates an existing client with the given ClientUpdateDTO as the request body. Send the ETag of the version the update is based on in `If-Match`; a stale ETag is rejected with 412 and a concurrent update with 409")
     public ResponseEntity<ClientResponseDTO> updateClient(
             @PathVariable Long id,
-            @Valid @RequestBody ClientUpdateDTO clientUpdateDTO
+            @Valid @RequestBody ClientUpdateDTO clientUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(this.clientService.updateClient(id, clientUpdateDTO));
+        ClientResponseDTO updated = this.clientService.updateClient(id, clientUpdateDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated);
     }
 
     /**
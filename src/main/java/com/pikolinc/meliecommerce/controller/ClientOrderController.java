@@ -1,16 +1,22 @@
 package com.pikolinc.meliecommerce.controller;
 
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchCreateForClientDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateForClientDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.PageHeaders;
+import com.pikolinc.meliecommerce.domain.dto.page.PageSize;
 import com.pikolinc.meliecommerce.exception.NotFoundException;
 import com.pikolinc.meliecommerce.service.ClientOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -36,19 +42,25 @@ public class ClientOrderController {
 
     /**
      * Retrieves a paginated list of orders for a given client.
+     * <p>
+     * The total number of orders of the client is only counted when {@code withTotal} is
+     * {@code true}, and is returned in the {@value PageHeaders#TOTAL_COUNT} header.
+     * </p>
      *
-     * @param id   the unique identifier of the client
-     * @param page the page number to retrieve (default is 0)
-     * @param size the number of orders per page (default is 10)
+     * @param id        the unique identifier of the client
+     * @param page      the page number to retrieve (default is 0)
+     * @param size      the number of orders per page (default is 10, at most {@value PageSize#MAX})
+     * @param withTotal whether to count the total number of orders of the client (default is false)
      * @return a {@link ResponseEntity} containing a list of {@link OrderResponseDTO}
      * @throws NotFoundException if no orders are found for the given client
      */
     @GetMapping({"/{id}/orders"})
-    @Operation(summary = "Get a page of orders of a certain client")
+    @Operation(summary = "Get a page of orders of a certain client", description = "Pass `withTotal=true` to receive the total count in the X-Total-Count header")
     public ResponseEntity<List<OrderResponseDTO>> getOrdersByClientId(
             @PathVariable @Min(1) Long id,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(PageSize.MIN) @Max(PageSize.MAX) int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
         final Pageable pageable = PageRequest.of(page, size);
 
@@ -57,7 +69,11 @@ public class ClientOrderController {
         if (orders.isEmpty())
             throw new NotFoundException("Orders not found for client Id: " + id);
 
-        return ResponseEntity.ok(orders);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withTotal)
+            response.header(PageHeaders.TOTAL_COUNT, String.valueOf(clientOrderService.countOrdersByClientId(id)));
+
+        return response.body(orders);
     }
 
     /**
@@ -65,7 +81,7 @@ public class ClientOrderController {
      *
      * @param clientId the unique identifier of the client
      * @param orderId  the unique identifier of the order
-     * @return a {@link ResponseEntity} containing the {@link OrderResponseDTO}
+     * @return a {@link ResponseEntity} containing the {@link OrderResponseDTO} and its {@code ETag}
      * @throws NotFoundException if the order is not found for the given client
      */
     @GetMapping({"/{clientId}/orders/{orderId}"})
@@ -79,7 +95,7 @@ public class ClientOrderController {
         if (order == null)
             throw new NotFoundException("Order not found for client Id: " + clientId);
 
-        return ResponseEntity.ok(order);
+        return ResponseEntity.ok().eTag(ETags.of(order.version())).body(order);
     }
 
     /**
@@ -99,23 +115,53 @@ public class ClientOrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    /**
+     * Creates many orders for a specific client in a single request.
+     * <p>
+     * Every row gets its own result. The response status is {@code 201 Created} when all rows were
+     * created and {@code 207 Multi-Status} when at least one row referenced a missing item.
+     * </p>
+     *
+     * @param clientId       the unique identifier of the client
+     * @param batchCreateDTO the data transfer object containing the orders to create
+     * @return a {@link ResponseEntity} containing one {@link OrderBatchResultDTO} per requested order
+     * @throws NotFoundException if the client does not exist
+     */
+    @PostMapping("/{clientId}/orders/batch")
+    @Operation(summary = "Create many orders of a certain client at once", description = "Returns one result per requested order, in request order")
+    public ResponseEntity<List<OrderBatchResultDTO>> createOrders(
+            @PathVariable @Min(1) Long clientId,
+            @Valid @RequestBody OrderBatchCreateForClientDTO batchCreateDTO
+    ) {
+        List<OrderBatchResultDTO> results = clientOrderService.createOrdersForClient(clientId, batchCreateDTO.orders());
+        return ResponseEntity
+                .status(OrderBatchResultDTO.statusOf(results))
+                .body(results);
+    }
+
     /**
      * Updates an existing order for a specific client.
+     * <p>
+     * When {@code If-Match} is present, the update only applies to the version it names.
+     * The response carries the {@code ETag} of the new version.
+     * </p>
      *
      * @param clientId   the unique identifier of the client
      * @param orderId    the unique identifier of the order
      * @param requestDTO the data transfer object containing updated order details
+     * @param ifMatch    the {@code ETag} the update is based on (optional)
      * @return a {@link ResponseEntity} containing the updated {@link OrderResponseDTO}
      */
     @PutMapping("/{clientId}/orders/{orderId}")
-    @Operation(summary = "Update an order of a certain client")
+    @Operation(summary = "Update an order of a certain client", description = "Send the ETag of the version the update is based on in `If-Match`; a stale ETag is rejected with 412 and a concurrent update with 409")
     public ResponseEntity<OrderResponseDTO> updateOrder(
             @PathVariable @Min(1) Long clientId,
             @PathVariable @Min(1) Long orderId,
-            @Valid @RequestBody OrderCreateForClientDTO requestDTO
+            @Valid @RequestBody OrderCreateForClientDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        OrderResponseDTO updatedOrder = clientOrderService.updateOrder(clientId, orderId, requestDTO);
-        return ResponseEntity.ok(updatedOrder);
+        OrderResponseDTO updatedOrder = clientOrderService.updateOrder(clientId, orderId, requestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedOrder.version())).body(updatedOrder);
     }
 
     /**
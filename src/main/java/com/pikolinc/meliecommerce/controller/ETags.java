@@ -0,0 +1,77 @@
+package com.pikolinc.meliecommerce.controller;
+
+import com.pikolinc.meliecommerce.exception.PreconditionFailedException;
+
+/**
+ * Helpers for the entity tags sent and received by the controllers.
+ * <p>
+ * Tags are strong and derived from the entity's optimistic-lock version, which Hibernate
+ * increments on every update, so a tag changes exactly when the stored entity does.
+ * </p>
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Builds the strong ETag of an entity version.
+     *
+     * @param version the optimistic-lock version of the entity
+     * @return the quoted entity tag, e.g. {@code "3"}
+     */
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tells whether an {@code If-None-Match} header matches an entity tag, so that a conditional
+     * {@code GET} can be answered with {@code 304 Not Modified}.
+     * <p>
+     * The header is {@code *} or a comma-separated list of tags, compared weakly as RFC 9110 requires
+     * for {@code If-None-Match}: a {@code W/} prefix is ignored.
+     * </p>
+     *
+     * @param ifNoneMatch the {@code If-None-Match} header value, may be {@code null}
+     * @param eTag        the current entity tag, as built by {@link #of(Long)}
+     * @return {@code true} if the header matches the tag
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank())
+            return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/"))
+                candidate = candidate.substring(2);
+            if (candidate.equals("*") || candidate.equals(eTag))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the entity version an update is conditioned on from its {@code If-Match} header.
+     * <p>
+     * Only a single strong tag produced by {@link #of(Long)} can match. Weak or foreign tags never
+     * match a current version, so they fail the precondition right away.
+     * </p>
+     *
+     * @param ifMatch the {@code If-Match} header value, may be {@code null}
+     * @return the expected version, or {@code null} if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header carries a tag that cannot match any version
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*"))
+            return null;
+
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // not one of our tags, falls through to the precondition failure
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + tag + " does not match the current version");
+    }
+}
@@ -1,19 +1,35 @@
 package com.pikolinc.meliecommerce.controller;
 
+import com.pikolinc.meliecommerce.config.HttpCacheProperties;
+import com.pikolinc.meliecommerce.domain.dto.importing.ImportResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemResponseDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
+import com.pikolinc.meliecommerce.domain.dto.page.PageHeaders;
+import com.pikolinc.meliecommerce.domain.dto.page.PageSize;
+import com.pikolinc.meliecommerce.service.ImportService;
 import com.pikolinc.meliecommerce.service.ItemService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -25,38 +41,93 @@ import java.util.List;
 @RestController
 @RequestMapping("api/v1/items")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Items", description = "Operations related to Items")
 public class ItemController {
 
+    /** Key of the item detail endpoint in {@code app.http-cache.endpoints}. */
+    static final String ITEM_DETAIL_CACHE = "item-detail";
+
     private final ItemService itemService;
 
+    private final HttpCacheProperties httpCacheProperties;
+
     /**
      * Retrieves a paginated list of items.
+     * <p>
+     * When the {@code after} cursor is present, the page is read with keyset pagination
+     * ({@code id > :after ORDER BY id}) instead of an offset, and the cursor of the next page
+     * is returned in the {@value CursorPage#NEXT_CURSOR_HEADER} header. A blank cursor starts
+     * from the first item.
+     * </p>
+     * <p>
+     * The total number of items is only counted when {@code withTotal} is {@code true},
+     * and is returned in the {@value PageHeaders#TOTAL_COUNT} header.
+     * </p>
      *
-     * @param page the page number to retrieve (default is 0)
-     * @param size the number of items per page (default is 10)
+     * @param page      the page number to retrieve (default is 0), ignored in cursor mode
+     * @param size      the number of items per page (default is 10, at most {@value PageSize#MAX})
+     * @param after     the opaque cursor returned by the previous page (optional)
+     * @param withTotal whether to count the total number of items (default is false)
      * @return a {@link ResponseEntity} containing a list of {@link ItemResponseDTO}
      */
     @GetMapping({"", "/"})
-    @Operation(summary = "Get a page of Items")
+    @Operation(summary = "Get a page of Items", description = "Pass the `after` cursor to read the next page with keyset pagination; the cursor of the following page is returned in the X-Next-Cursor header. Pass `withTotal=true` to receive the total count in the X-Total-Count header")
     public ResponseEntity<List<ItemResponseDTO>> getAllItems(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(PageSize.MIN) @Max(PageSize.MAX) int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withTotal)
+            response.header(PageHeaders.TOTAL_COUNT, String.valueOf(this.itemService.countItems()));
+
+        if (after != null) {
+            CursorPage<ItemResponseDTO> cursorPage = this.itemService.getItemsAfter(CursorPage.decode(after), size);
+            if (cursorPage.nextCursor() != null)
+                response.header(CursorPage.NEXT_CURSOR_HEADER, cursorPage.nextCursor());
+
+            return response.body(cursorPage.content());
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(this.itemService.getAllItems(pageable));
+        return response.body(this.itemService.getAllItems(pageable));
     }
 
     /**
      * Retrieves a single item by its unique identifier.
+     * <p>
+     * The response carries a strong {@code ETag} derived from the item version and the
+     * {@code Cache-Control} policy configured for {@value #ITEM_DETAIL_CACHE}. When the request
+     * sends {@code If-None-Match}, only the item's version is looked up first (see
+     * {@link ItemService#getItemVersion(Long)}); if it matches, a {@code 304 Not Modified} is returned
+     * without loading or serializing the item. Unless the item is in the second-level cache, that
+     * lookup is still one small query: revalidation is cheap, not free of database access.
+     * </p>
      *
-     * @param id the unique identifier of the item
-     * @return a {@link ResponseEntity} containing the {@link ItemResponseDTO}
+     * @param id          the unique identifier of the item
+     * @param ifNoneMatch the tags the client already holds, if any
+     * @return a {@link ResponseEntity} containing the {@link ItemResponseDTO}, or {@code 304} without a body
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get a single item with the given id")
-    public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id) {
-        return ResponseEntity.ok(this.itemService.getItemById(id));
+    @Operation(summary = "Get a single item with the given id", description = "Send the received ETag in `If-None-Match` to get a 304 Not Modified while the item is unchanged")
+    public ResponseEntity<ItemResponseDTO> getItemById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CacheControl cacheControl = this.httpCacheProperties.cacheControl(ITEM_DETAIL_CACHE);
+        if (ifNoneMatch != null) {
+            String eTag = ETags.of(this.itemService.getItemVersion(id));
+            if (ETags.matches(ifNoneMatch, eTag))
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        ItemResponseDTO item = this.itemService.getItemById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(item.version()))
+                .cacheControl(cacheControl)
+                .body(item);
     }
 
     /**
@@ -73,20 +144,54 @@ public class ItemController {
                 .body(this.itemService.addItem(itemCreateDTO));
     }
 
+    /**
+     * Creates items in bulk from a CSV or NDJSON body.
+     * <p>
+     * The body is read while it is uploaded and valid rows are written in batches. Invalid rows
+     * are skipped and reported with their line number. The response status is {@code 201 Created}
+     * when every row was imported and {@code 207 Multi-Status} when some rows were rejected.
+     * </p>
+     *
+     * @param contentType {@code text/csv} (with a header line) or {@code application/x-ndjson}
+     * @param body        the rows to import
+     * @return a {@link ResponseEntity} containing the {@link ImportResultDTO}
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {ImportService.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import items from a CSV or NDJSON body", description = "CSV bodies start with a header line naming the columns (name,description,price); NDJSON bodies hold one item object per line. Rejected rows are listed with their line number and do not abort the import")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(mediaType = ImportService.TEXT_CSV_VALUE, schema = @Schema(type = "string")),
+            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(type = "string"))
+    })
+    public ResponseEntity<ImportResultDTO> importItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        ImportResultDTO result = this.itemService.importItems(body, contentType);
+        return ResponseEntity.status(result.httpStatus()).body(result);
+    }
+
     /**
      * Updates an existing item identified by its unique identifier.
+     * <p>
+     * When {@code If-Match} is present, the update only applies to the version it names.
+     * The response carries the {@code ETag} of the new version.
+     * </p>
      *
-     * @param id  the unique identifier of the item to update
-     * @param dto the data transfer object containing updated item details
+     * @param id      the unique identifier of the item to update
+     * @param dto     the data transfer object containing updated item details
+     * @param ifMatch the {@code ETag} the update is based on (optional)
      * @return a {@link ResponseEntity} containing the updated {@link ItemResponseDTO}
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Update an item of the given id")
+    @Operation(summary = "Update an item of the given id", description = "Send the ETag of the version the update is based on in `If-Match`; a stale ETag is rejected with 412 and a concurrent update with 409")
     public ResponseEntity<ItemResponseDTO> updateItem(
             @PathVariable Long id,
-            @Valid @RequestBody ItemUpdateDTO dto
+            @Valid @RequestBody ItemUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(this.itemService.updateItem(id, dto));
+        ItemResponseDTO updated = this.itemService.updateItem(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated);
     }
 
     /**
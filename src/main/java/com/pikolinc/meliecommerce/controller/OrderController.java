@@ -1,18 +1,38 @@
 package com.pikolinc.meliecommerce.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchCreateDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
+import com.pikolinc.meliecommerce.domain.dto.page.PageHeaders;
+import com.pikolinc.meliecommerce.domain.dto.page.PageSize;
+import com.pikolinc.meliecommerce.exception.BadRequestException;
 import com.pikolinc.meliecommerce.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,38 +44,109 @@ import java.util.List;
 @RestController
 @RequestMapping("api/v1/orders")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Orders", description = "Operations related to Orders")
 public class OrderController {
 
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Retrieves a paginated list of orders.
+     * <p>
+     * When the {@code after} cursor is present, the page is read with keyset pagination
+     * ({@code id > :after ORDER BY id}) instead of an offset, and the cursor of the next page
+     * is returned in the {@value CursorPage#NEXT_CURSOR_HEADER} header. A blank cursor starts
+     * from the first order.
+     * </p>
+     * <p>
+     * The total number of orders is only counted when {@code withTotal} is {@code true},
+     * and is returned in the {@value PageHeaders#TOTAL_COUNT} header.
+     * </p>
      *
-     * @param page the page number to retrieve (default is 0)
-     * @param size the number of items per page (default is 10)
+     * @param page      the page number to retrieve (default is 0), ignored in cursor mode
+     * @param size      the number of orders per page (default is 10, at most {@value PageSize#MAX})
+     * @param after     the opaque cursor returned by the previous page (optional)
+     * @param withTotal whether to count the total number of orders (default is false)
      * @return a {@link ResponseEntity} containing a list of {@link OrderResponseDTO}
      */
     @GetMapping({"", "/"})
-    @Operation(summary = "Get a page of orders")
+    @Operation(summary = "Get a page of orders", description = "Pass the `after` cursor to read the next page with keyset pagination; the cursor of the following page is returned in the X-Next-Cursor header. Pass `withTotal=true` to receive the total count in the X-Total-Count header")
     public ResponseEntity<List<OrderResponseDTO>> getAllOrders(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(PageSize.MIN) @Max(PageSize.MAX) int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withTotal)
+            response.header(PageHeaders.TOTAL_COUNT, String.valueOf(this.orderService.countOrders()));
+
+        if (after != null) {
+            CursorPage<OrderResponseDTO> cursorPage = this.orderService.getOrdersAfter(CursorPage.decode(after), size);
+            if (cursorPage.nextCursor() != null)
+                response.header(CursorPage.NEXT_CURSOR_HEADER, cursorPage.nextCursor());
+
+            return response.body(cursorPage.content());
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(this.orderService.getAllOrders(pageable));
+        return response.body(this.orderService.getAllOrders(pageable));
+    }
+
+    /**
+     * Exports every order as NDJSON (one {@link OrderResponseDTO} per line), optionally restricted to
+     * a purchase date range.
+     * <p>
+     * The response is streamed from a database cursor while it is written, so the whole table can be
+     * exported in one request with constant memory, instead of paging through the listing.
+     * </p>
+     *
+     * @param from the first purchase date to include (optional, ISO date)
+     * @param to   the last purchase date to include (optional, ISO date)
+     * @return a {@link ResponseEntity} streaming the orders in ascending ID order
+     * @throws BadRequestException if {@code from} is after {@code to}
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export orders as NDJSON", description = "Streams every order, one JSON object per line, in ascending id order. `from` and `to` restrict the purchase date (inclusive)")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        // Checked before streaming, as the status is committed with the first line
+        if (from != null && to != null && from.isAfter(to))
+            throw new BadRequestException("from (" + from + ") must not be after to (" + to + ")");
+
+        // One line per order: no separator between root values and no flush after each of them
+        ObjectWriter writer = this.objectMapper.writerFor(OrderResponseDTO.class)
+                .withRootValueSeparator((String) null)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                this.orderService.exportOrders(from, to, order -> {
+                    try {
+                        writer.writeValue(generator, order);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Retrieves a single order by its unique identifier.
      *
      * @param id the unique identifier of the order
-     * @return a {@link ResponseEntity} containing the {@link OrderResponseDTO}
+     * @return a {@link ResponseEntity} containing the {@link OrderResponseDTO} and its {@code ETag}
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get a single order with the given id")
     public ResponseEntity<OrderResponseDTO> getOrder(@PathVariable Long id) {
-        return ResponseEntity.ok(this.orderService.getOrderById(id));
+        OrderResponseDTO order = this.orderService.getOrderById(id);
+        return ResponseEntity.ok().eTag(ETags.of(order.version())).body(order);
     }
 
     /**
@@ -72,20 +163,46 @@ public class OrderController {
                 .body(this.orderService.createOrder(orderCreateDTO));
     }
 
+    /**
+     * Creates many orders in a single request.
+     * <p>
+     * Every row gets its own result. The response status is {@code 201 Created} when all rows were
+     * created and {@code 207 Multi-Status} when at least one row referenced a missing client or item.
+     * </p>
+     *
+     * @param batchCreateDTO the data transfer object containing the orders to create
+     * @return a {@link ResponseEntity} containing one {@link OrderBatchResultDTO} per requested order
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create many orders at once", description = "Returns one result per requested order, in request order")
+    public ResponseEntity<List<OrderBatchResultDTO>> createOrders(@Valid @RequestBody OrderBatchCreateDTO batchCreateDTO) {
+        List<OrderBatchResultDTO> results = this.orderService.createOrders(batchCreateDTO.orders());
+        return ResponseEntity
+                .status(OrderBatchResultDTO.statusOf(results))
+                .body(results);
+    }
+
     /**
      * Updates an existing order identified by its unique identifier.
+     * <p>
+     * When {@code If-Match} is present, the update only applies to the version it names.
+     * The response carries the {@code ETag} of the new version.
+     * </p>
      *
      * @param id the unique identifier of the order to update
      * @param orderCreateDTO the data transfer object containing updated order details
+     * @param ifMatch the {@code ETag} the update is based on (optional)
      * @return a {@link ResponseEntity} containing the updated {@link OrderResponseDTO}
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Update an order with the given id")
+    @Operation(summary = "Update an order with the given id", description = "Send the ETag of the version the update is based on in `If-Match`; a stale ETag is rejected with 412 and a concurrent update with 409")
     public ResponseEntity<OrderResponseDTO> updateOrder(
             @PathVariable Long id,
-            @Valid @RequestBody OrderCreateDTO orderCreateDTO
+            @Valid @RequestBody OrderCreateDTO orderCreateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(this.orderService.updateOrder(id, orderCreateDTO));
+        OrderResponseDTO updated = this.orderService.updateOrder(id, orderCreateDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.pikolinc.meliecommerce.domain.dto.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param name    the full name of the client
  * @param address the address of the client
  * @param age     the age of the client
+ * @param version the version of the client, sent as the {@code ETag} header instead of in the body
  */
 @Schema(description = "Client Response data transfer object")
 public record ClientResponseDTO(
@@ -27,6 +29,10 @@ public record ClientResponseDTO(
         String address,
 
         @Schema(description = "Client age", example = "23")
-        Integer age
+        Integer age,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
 ) {
 }
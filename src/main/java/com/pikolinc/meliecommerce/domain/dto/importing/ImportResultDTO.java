@@ -0,0 +1,56 @@
+package com.pikolinc.meliecommerce.domain.dto.importing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of a bulk import.
+ * <p>
+ * Valid rows are imported even when other rows of the file are rejected. Only the first
+ * rejected rows are listed in {@code errors} (see {@code app.import.max-reported-errors});
+ * {@code rejected} counts all of them.
+ * </p>
+ *
+ * @param imported number of rows written to the database
+ * @param rejected number of rows that could not be parsed or failed validation
+ * @param errors   the first rejected rows, in file order
+ */
+@Schema(description = "Result of a bulk import")
+public record ImportResultDTO(
+        @Schema(description = "Number of imported rows", example = "998")
+        long imported,
+
+        @Schema(description = "Number of rejected rows", example = "2")
+        long rejected,
+
+        @Schema(description = "First rejected rows, in file order")
+        List<RejectedRow> errors
+) {
+
+    /**
+     * A row that was not imported.
+     *
+     * @param line    line number of the row in the uploaded file, starting at 1
+     * @param message why the row was rejected
+     */
+    @Schema(description = "A rejected row of a bulk import")
+    public record RejectedRow(
+            @Schema(description = "Line number in the uploaded file", example = "42")
+            long line,
+
+            @Schema(description = "Reason the row was rejected", example = "price: Price must be positive")
+            String message
+    ) {
+    }
+
+    /**
+     * Resolves the HTTP status of the import.
+     *
+     * @return {@link HttpStatus#CREATED} if no row was rejected, {@link HttpStatus#MULTI_STATUS} otherwise
+     */
+    public HttpStatus httpStatus() {
+        return rejected == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    }
+}
@@ -1,5 +1,6 @@
 package com.pikolinc.meliecommerce.domain.dto.item;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param name        the name of the item
  * @param description a textual description of the item
  * @param price       the price of the item
+ * @param version     the version of the item, sent as the {@code ETag} header instead of in the body
  */
 @Schema(description = "Item Response data transfer object")
 public record ItemResponseDTO(
@@ -27,6 +29,10 @@ public record ItemResponseDTO(
         String description,
 
         @Schema(description = "The price of the item", example = "3000")
-        Double price
+        Double price,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
 ) {
 }
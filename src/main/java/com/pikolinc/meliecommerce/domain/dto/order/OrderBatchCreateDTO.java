@@ -0,0 +1,37 @@
+package com.pikolinc.meliecommerce.domain.dto.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) used to create many {@link com.pikolinc.meliecommerce.domain.entity.Order}
+ * entities in a single request.
+ * <p>
+ * Each element is validated like a single {@link OrderCreateDTO}; an invalid element rejects the
+ * whole request. Elements referencing a missing client or item are reported individually in the
+ * response instead.
+ * </p>
+ *
+ * Validation constraints:
+ * <ul>
+ *     <li>{@code orders} – must contain between 1 and {@value #MAX_ORDERS} valid orders</li>
+ * </ul>
+ *
+ * @param orders the orders to create, in the order their results are reported
+ */
+@Schema(description = "Order data transfer object used in batch creation requests")
+public record OrderBatchCreateDTO(
+        @Schema(description = "Orders to create")
+        @NotEmpty(message = "At least one order is required")
+        @Size(max = OrderBatchCreateDTO.MAX_ORDERS, message = "At most " + OrderBatchCreateDTO.MAX_ORDERS + " orders are allowed per batch")
+        List<@Valid @NotNull OrderCreateDTO> orders
+) {
+
+    /** Maximum number of orders accepted in a single batch. */
+    public static final int MAX_ORDERS = 10_000;
+}
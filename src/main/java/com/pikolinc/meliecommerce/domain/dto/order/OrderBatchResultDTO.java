@@ -0,0 +1,67 @@
+package com.pikolinc.meliecommerce.domain.dto.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one row of a batch order creation.
+ * <p>
+ * Successful rows carry the created order; failed rows carry the status and message
+ * the single-order endpoint would have answered with.
+ * </p>
+ *
+ * @param index   position of the row in the request
+ * @param status  HTTP status code of the row ({@code 201} when created)
+ * @param message error message of a failed row, {@code null} when created
+ * @param order   the created order, {@code null} when the row failed
+ */
+@Schema(description = "Result of a single row of a batch order creation")
+public record OrderBatchResultDTO(
+        @Schema(description = "Position of the row in the request", example = "0")
+        int index,
+
+        @Schema(description = "HTTP status of the row", example = "201")
+        int status,
+
+        @Schema(description = "Error message when the row failed", example = "Item not found with id 4")
+        String message,
+
+        @Schema(description = "Created order when the row succeeded", implementation = OrderResponseDTO.class)
+        OrderResponseDTO order
+) {
+
+    /**
+     * Builds the result of a row whose order was created.
+     *
+     * @param index position of the row in the request
+     * @param order the created order
+     * @return a result with status {@code 201}
+     */
+    public static OrderBatchResultDTO created(int index, OrderResponseDTO order) {
+        return new OrderBatchResultDTO(index, HttpStatus.CREATED.value(), null, order);
+    }
+
+    /**
+     * Builds the result of a row whose client or item could not be found.
+     *
+     * @param index   position of the row in the request
+     * @param message the reason the row failed
+     * @return a result with status {@code 404}
+     */
+    public static OrderBatchResultDTO notFound(int index, String message) {
+        return new OrderBatchResultDTO(index, HttpStatus.NOT_FOUND.value(), message, null);
+    }
+
+    /**
+     * Resolves the overall HTTP status of a batch.
+     *
+     * @param results the results of every row of the batch
+     * @return {@link HttpStatus#CREATED} if every row was created, {@link HttpStatus#MULTI_STATUS} otherwise
+     */
+    public static HttpStatus statusOf(List<OrderBatchResultDTO> results) {
+        boolean allCreated = results.stream().allMatch(result -> result.status() == HttpStatus.CREATED.value());
+        return allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    }
+}
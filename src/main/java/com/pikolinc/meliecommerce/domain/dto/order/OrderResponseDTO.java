@@ -2,6 +2,7 @@ package com.pikolinc.meliecommerce.domain.dto.order;
 
 import com.pikolinc.meliecommerce.domain.dto.client.ClientResponseDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemResponseDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -19,6 +20,7 @@ import java.time.LocalDate;
  * @param itemResponseDTO   Summary information about the item included in the order
  * @param purchaseDate      The date when the order was placed
  * @param deliveryDate      The expected delivery date for the order
+ * @param version           The version of the order, sent as the {@code ETag} header instead of in the body
  */
 @Schema(description = "Order data transfer object that the server sends back given a request")
 public record OrderResponseDTO(
@@ -35,5 +37,9 @@ public record OrderResponseDTO(
         LocalDate purchaseDate,
 
         @Schema(description = "Order delivery date", example = "2022-03-04")
-        LocalDate deliveryDate
+        LocalDate deliveryDate,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
 ) { }
@@ -0,0 +1,80 @@
+package com.pikolinc.meliecommerce.domain.dto.page;
+
+import com.pikolinc.meliecommerce.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of results read with keyset (seek) pagination.
+ * <p>
+ * Instead of an {@code OFFSET}, each page is read with an {@code id > :after ORDER BY id} query,
+ * so reading a deep page costs the same as reading the first one. The position of the next page
+ * is handed to the caller as an opaque cursor, which is sent back as the {@code after} request
+ * parameter and returned by the listing endpoints in the {@value #NEXT_CURSOR_HEADER} header.
+ * </p>
+ *
+ * @param content    the elements of the current page
+ * @param nextCursor the opaque cursor of the next page, or {@code null} if this is the last page
+ * @param <T>        the type of the page elements
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    /** Response header carrying the cursor of the next page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Builds a page out of rows read with a limit of {@code size + 1}.
+     * The extra row, when present, only signals that another page exists and is not returned.
+     *
+     * @param rows   the rows read from the repository, ordered by ID
+     * @param size   the requested page size
+     * @param idOf   extracts the ID of a row, used to build the next cursor
+     * @param mapper converts a row into the returned element
+     * @param <E>    the type of the rows
+     * @param <T>    the type of the page elements
+     * @return the page with its next cursor
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Long> idOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? encode(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Encodes the last ID of a page into an opaque cursor.
+     *
+     * @param id the ID of the last element of a page
+     * @return the opaque cursor
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an opaque cursor into the ID the next page starts after.
+     * A blank cursor starts from the beginning.
+     *
+     * @param cursor the cursor received in the {@code after} request parameter
+     * @return the ID after which the next page starts
+     * @throws BadRequestException if the cursor cannot be decoded
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.pikolinc.meliecommerce.domain.dto.page;
+
+/**
+ * Names of the response headers that carry pagination metadata.
+ * <p>
+ * Listing endpoints return the page content as a plain JSON array; metadata that is
+ * only computed on demand, such as the total number of elements, travels in headers.
+ * </p>
+ */
+public final class PageHeaders {
+
+    /** Total number of elements across all pages, sent only when {@code withTotal=true}. */
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    private PageHeaders() {
+    }
+}
@@ -0,0 +1,20 @@
+package com.pikolinc.meliecommerce.domain.dto.page;
+
+/**
+ * Bounds of the {@code size} parameter of the listing endpoints.
+ * <p>
+ * Sizes outside of them are rejected with {@code 400 Bad Request} before any query runs: an empty
+ * page cannot carry a cursor, and a cursor page reads {@code size + 1} rows.
+ * </p>
+ */
+public final class PageSize {
+
+    /** Smallest page size. */
+    public static final int MIN = 1;
+
+    /** Largest page size. */
+    public static final int MAX = 1000;
+
+    private PageSize() {
+    }
+}
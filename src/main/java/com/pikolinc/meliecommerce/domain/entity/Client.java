@@ -1,10 +1,14 @@
 package com.pikolinc.meliecommerce.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,27 +31,44 @@ import java.util.List;
  *     <li>{@code name} – the full name of the client</li>
  *     <li>{@code address} – the address of the client</li>
  *     <li>{@code age} – the age of the client</li>
+ *     <li>{@code version} – optimistic-lock version, incremented on every update</li>
  *     <li>{@code orders} – the list of orders associated with this client</li>
  * </ul>
  *
  * <p>
- * Lombok annotations (@Data, @NoArgsConstructor, @AllArgsConstructor, @Builder)
+ * Lombok annotations (@Getter, @Setter, @ToString, @NoArgsConstructor, @AllArgsConstructor, @Builder)
  * are used to automatically generate getters, setters, constructors, and builder methods.
+ * The {@code orders} collection is left out of {@code toString()}; equality is by ID.
+ * </p>
+ *
+ * <h2>Caching:</h2>
+ * <p>
+ * Where the second-level cache is enabled (not by default in prod), instances are kept in the
+ * {@code clients} region (see {@code HibernateCacheConfig}), so lookups by ID skip the database.
+ * Updates and deletes made through JPA refresh or evict the cached entry; the {@code orders}
+ * collection is not cached.
  * </p>
  *
  * @see Order
  */
 @Entity
 @Table(name = "clients")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clients")
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Client {
 
-    /** Primary key of the client. Auto-generated. */
+    /**
+     * Primary key of the client. Drawn from the {@code clients_seq} sequence in blocks of 50,
+     * so Hibernate does not need a round trip per insert and can batch them.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_seq")
+    @SequenceGenerator(name = "clients_seq", sequenceName = "clients_seq", allocationSize = 50)
     private Long id;
 
     /** The full name of the client. Stored as TEXT in the database. */
@@ -61,7 +82,35 @@ public class Client {
     /** The age of the client. */
     private Integer age;
 
+    /**
+     * Optimistic-lock version, incremented by Hibernate on every update. An update based on
+     * an outdated version fails instead of overwriting a concurrent change.
+     */
+    @Version
+    private Long version;
+
     /** The list of orders associated with this client. */
-    @OneToMany(mappedBy = "client")
+    @OneToMany(mappedBy = "client", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Builder.Default
     private List<Order> orders = new ArrayList<>();
+
+    /**
+     * {@code Client}s are equal when they have the same ID; an unsaved client is only equal to itself.
+     * The other ID is read through {@code getId()}, so Hibernate proxies compare correctly.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Client other))
+            return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    /** Constant per class, so the hash code does not change when the ID is assigned on persist. */
+    @Override
+    public int hashCode() {
+        return Client.class.hashCode();
+    }
 }
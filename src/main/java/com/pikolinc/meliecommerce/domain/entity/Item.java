@@ -1,10 +1,14 @@
 package com.pikolinc.meliecommerce.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,27 +31,44 @@ import java.util.List;
  *     <li>{@code name} – the name of the item</li>
  *     <li>{@code description} – a textual description of the item</li>
  *     <li>{@code price} – the price of the item (cannot be null)</li>
+ *     <li>{@code version} – optimistic-lock version, incremented on every update</li>
  *     <li>{@code orders} – the list of orders that include this item</li>
  * </ul>
  *
  * <p>
- * Lombok annotations (@Data, @NoArgsConstructor, @AllArgsConstructor, @Builder)
+ * Lombok annotations (@Getter, @Setter, @ToString, @NoArgsConstructor, @AllArgsConstructor, @Builder)
  * are used to generate getters, setters, constructors, and builder methods automatically.
+ * The {@code orders} collection is left out of {@code toString()}; equality is by ID.
+ * </p>
+ *
+ * <h2>Caching:</h2>
+ * <p>
+ * Where the second-level cache is enabled (not by default in prod), instances are kept in the
+ * {@code items} region (see {@code HibernateCacheConfig}), so lookups by ID skip the database.
+ * Updates and deletes made through JPA refresh or evict the cached entry; the {@code orders}
+ * collection is not cached.
  * </p>
  *
  * @see Order
  */
 @Entity
 @Table(name = "items")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Item {
 
-    /** Primary key of the item. Auto-generated. */
+    /**
+     * Primary key of the item. Drawn from the {@code items_seq} sequence in blocks of 50,
+     * so Hibernate does not need a round trip per insert and can batch them.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
 
     /** The name of the item. Stored as TEXT in the database. */
@@ -62,7 +83,35 @@ public class Item {
     @Column(nullable = false)
     private Double price;
 
+    /**
+     * Optimistic-lock version, incremented by Hibernate on every update. Also identifies the
+     * current representation of the item, so it doubles as the ETag of the item endpoint.
+     */
+    @Version
+    private Long version;
+
     /** The list of orders that include this item. */
-    @OneToMany(mappedBy = "item")
+    @OneToMany(mappedBy = "item", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Builder.Default
     private List<Order> orders = new ArrayList<>();
+
+    /**
+     * {@code Item}s are equal when they have the same ID; an unsaved item is only equal to itself.
+     * The other ID is read through {@code getId()}, so Hibernate proxies compare correctly.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Item other))
+            return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    /** Constant per class, so the hash code does not change when the ID is assigned on persist. */
+    @Override
+    public int hashCode() {
+        return Item.class.hashCode();
+    }
 }
@@ -3,8 +3,10 @@ package com.pikolinc.meliecommerce.domain.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
@@ -28,37 +30,69 @@ import java.time.LocalDate;
  *     <li>{@code item} – the item included in this order</li>
  *     <li>{@code purchaseDate} – the date the order was placed</li>
  *     <li>{@code deliveryDate} – the expected delivery date for the order</li>
+ *     <li>{@code version} – optimistic-lock version, incremented on every update</li>
  * </ul>
  *
+ * <h2>Foreign keys:</h2>
+ * <ul>
+ *     <li>{@code fk_orders_client (id_client)} – references {@code clients (id)}</li>
+ *     <li>{@code fk_orders_item (id_item)} – references {@code items (id)}</li>
+ * </ul>
  * <p>
- * Lombok annotations (@Data, @NoArgsConstructor, @AllArgsConstructor, @Builder)
+ * Writes attach the client and item as references without loading them, so these constraints are
+ * what rejects an unknown client or item. Databases created before the Flyway migrations name them
+ * {@code fk_client} and {@code fk_item}; nothing depends on the names.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code idx_orders_client_id (id_client, id)} – client-scoped listings, already in ID order</li>
+ *     <li>{@code idx_orders_item_purchase_date (id_item, purchase_date)} – orders of an item by date, and item deletes</li>
+ *     <li>{@code idx_orders_purchase_date (purchase_date)} – date range reads over all orders</li>
+ * </ul>
+ *
+ * <p>
+ * Lombok annotations (@Getter, @Setter, @ToString, @NoArgsConstructor, @AllArgsConstructor, @Builder)
  * are used to generate boilerplate code such as getters, setters, constructors, and builder methods.
+ * The client and item are left out of {@code toString()}; equality is by ID.
  * </p>
  *
  * @see Client
  * @see Item
  */
 @Entity
-@Table(name = "orders")
-@Data
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_client_id", columnList = "id_client, id"),
+        @Index(name = "idx_orders_item_purchase_date", columnList = "id_item, purchase_date"),
+        @Index(name = "idx_orders_purchase_date", columnList = "purchase_date")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Order {
 
-    /** Primary key of the order. Auto-generated. */
+    /**
+     * Primary key of the order. Drawn from the {@code orders_seq} sequence in blocks of 50,
+     * so Hibernate does not need a round trip per insert and can batch them.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
-    /** The client who placed this order. */
-    @ManyToOne
-    @JoinColumn(name = "id_client")
+    /** The client who placed this order. Lazy, as writes only need its ID. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_client", foreignKey = @ForeignKey(name = "fk_orders_client"))
+    @ToString.Exclude
     private Client client;
 
-    /** The item included in this order. */
-    @ManyToOne
-    @JoinColumn(name = "id_item")
+    /** The item included in this order. Lazy, as writes only need its ID. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_item", foreignKey = @ForeignKey(name = "fk_orders_item"))
+    @ToString.Exclude
     private Item item;
 
     /** The date when the order was placed. */
@@ -66,4 +100,30 @@ public class Order {
 
     /** The expected or actual delivery date of the order. */
     private LocalDate deliveryDate;
+
+    /**
+     * Optimistic-lock version, incremented by Hibernate on every update. An update based on
+     * an outdated version fails instead of overwriting a concurrent change.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * {@code Order}s are equal when they have the same ID; an unsaved order is only equal to itself.
+     * The other ID is read through {@code getId()}, so Hibernate proxies compare correctly.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Order other))
+            return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    /** Constant per class, so the hash code does not change when the ID is assigned on persist. */
+    @Override
+    public int hashCode() {
+        return Order.class.hashCode();
+    }
 }
@@ -0,0 +1,194 @@
+package com.pikolinc.meliecommerce.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+
+/**
+ * Denormalized read model of an {@link Order}, mapped to the {@code order_view} table.
+ * <p>
+ * Holds the order together with a summary of its client and item, so order responses are read
+ * from a single row instead of joining {@code orders}, {@code clients} and {@code items}. Rows are
+ * written by the order services in the same transaction as the order (see {@link #of(Order)} and
+ * {@link #update(Order)}) and deleted with it by the {@code ON DELETE CASCADE} foreign key.
+ * Orders written by other means get their row at the next startup, see
+ * {@link com.pikolinc.meliecommerce.repository.OrderViewRepository#insertMissing()}.
+ * </p>
+ *
+ * <h2>Snapshot:</h2>
+ * <p>
+ * The client and item columns are copied when the order is placed, and again only when an update
+ * moves the order to another client or item. Later changes to the client or item are not propagated:
+ * {@code itemPrice} is the price the order was placed at, not the current price of the item.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code idx_order_view_client_id (client_id, order_id)} – client-scoped listings, already in ID order</li>
+ *     <li>{@code idx_order_view_purchase_date (purchase_date)} – date range reads of the export</li>
+ * </ul>
+ *
+ * <p>
+ * Implements {@link Persistable} so that saving a new row is a plain {@code INSERT}; its ID is
+ * assigned from the order, which would otherwise make Spring Data merge it (a {@code SELECT} first).
+ * </p>
+ *
+ * @see Order
+ */
+@Entity
+@Table(name = "order_view", indexes = {
+        @Index(name = "idx_order_view_client_id", columnList = "client_id, order_id"),
+        @Index(name = "idx_order_view_purchase_date", columnList = "purchase_date")
+})
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderView implements Persistable<Long> {
+
+    /** ID of the order, also the primary key of the row. */
+    @Id
+    private Long orderId;
+
+    /** Optimistic-lock version of the order, used as its ETag. */
+    @Column(nullable = false)
+    private Long orderVersion;
+
+    /** The date when the order was placed. */
+    private LocalDate purchaseDate;
+
+    /** The expected or actual delivery date of the order. */
+    private LocalDate deliveryDate;
+
+    /** ID of the client who placed the order. */
+    private Long clientId;
+
+    /** Name of the client when the order was placed. */
+    @Column(columnDefinition = "TEXT")
+    private String clientName;
+
+    /** Address of the client when the order was placed. */
+    @Column(columnDefinition = "TEXT")
+    private String clientAddress;
+
+    /** Age of the client when the order was placed. */
+    private Integer clientAge;
+
+    /** Version of the client when the order was placed. */
+    private Long clientVersion;
+
+    /** ID of the ordered item. */
+    private Long itemId;
+
+    /** Name of the item when the order was placed. */
+    @Column(columnDefinition = "TEXT")
+    private String itemName;
+
+    /** Description of the item when the order was placed. */
+    @Column(columnDefinition = "TEXT")
+    private String itemDescription;
+
+    /** Price of the item when the order was placed. */
+    private Double itemPrice;
+
+    /** Version of the item when the order was placed. */
+    private Long itemVersion;
+
+    /** Whether the row has not been inserted yet. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean newRow;
+
+    /**
+     * Creates the view of a newly saved order, copying its client and item.
+     *
+     * @param order the saved order, with its ID and version assigned
+     * @return a new row, inserted when saved
+     */
+    public static OrderView of(Order order) {
+        OrderView view = new OrderView();
+        view.orderId = order.getId();
+        view.newRow = true;
+        view.copyOrder(order);
+        view.copyClient(order.getClient());
+        view.copyItem(order.getItem());
+        return view;
+    }
+
+    /**
+     * Applies an update of the order. The client and item are copied again only if the order now
+     * references another one; otherwise their snapshot, including the purchase price, is kept
+     * (and the references are not initialized).
+     *
+     * @param order the updated order, flushed so its version is current
+     * @return this row
+     */
+    public OrderView update(Order order) {
+        copyOrder(order);
+        if (!order.getClient().getId().equals(clientId))
+            copyClient(order.getClient());
+        if (!order.getItem().getId().equals(itemId))
+            copyItem(order.getItem());
+        return this;
+    }
+
+    private void copyOrder(Order order) {
+        orderVersion = order.getVersion();
+        purchaseDate = order.getPurchaseDate();
+        deliveryDate = order.getDeliveryDate();
+    }
+
+    private void copyClient(Client client) {
+        clientId = client.getId();
+        clientName = client.getName();
+        clientAddress = client.getAddress();
+        clientAge = client.getAge();
+        clientVersion = client.getVersion();
+    }
+
+    private void copyItem(Item item) {
+        itemId = item.getId();
+        itemName = item.getName();
+        itemDescription = item.getDescription();
+        itemPrice = item.getPrice();
+        itemVersion = item.getVersion();
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    /** Rows read from or written to the database are no longer new. */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newRow = false;
+    }
+
+    /** Rows are equal when they belong to the same order. */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof OrderView other))
+            return false;
+        return orderId != null && orderId.equals(other.getOrderId());
+    }
+
+    /** Class-based, like the other entities. */
+    @Override
+    public int hashCode() {
+        return OrderView.class.hashCode();
+    }
+}
@@ -0,0 +1,41 @@
+package com.pikolinc.meliecommerce.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request carries a value that is well-formed for the
+ * endpoint signature but cannot be interpreted by the application.
+ * <p>
+ * This exception results in an HTTP {@code 400 Bad Request} response and is
+ * typically used for opaque tokens (such as pagination cursors) that fail to decode.
+ * </p>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * throw new BadRequestException("Invalid cursor: " + cursor);
+ * }</pre>
+ *
+ * @see HttpStatus#BAD_REQUEST
+ * @see ResponseException
+ */
+public class BadRequestException extends ResponseException {
+
+    /**
+     * Constructs a new {@code BadRequestException} with the specified detail message.
+     *
+     * @param message a descriptive message explaining why the request is invalid
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the HTTP status code for this exception.
+     *
+     * @return {@link HttpStatus#BAD_REQUEST} (400)
+     */
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
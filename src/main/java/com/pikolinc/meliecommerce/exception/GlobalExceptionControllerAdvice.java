@@ -1,6 +1,7 @@
 package com.pikolinc.meliecommerce.exception;
 
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -45,6 +46,23 @@ public class GlobalExceptionControllerAdvice {
         return ResponseEntity.status(httpStatus).body(errorResponse);
     }
 
+    /**
+     * Handles optimistic-lock failures raised when an entity was updated or deleted
+     * concurrently between being read and being written.
+     * Returns HTTP 409 Conflict so the client can reload the entity and retry.
+     *
+     * @param exception the caught {@link OptimisticLockingFailureException}
+     * @return a {@link ResponseEntity} containing an {@link ErrorResponse} with HTTP 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "The resource was modified concurrently. Reload it and retry the request."
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles any uncaught {@link Exception} that does not have a specific handler.
      * Provides a generic HTTP 500 Internal Server Error response to prevent
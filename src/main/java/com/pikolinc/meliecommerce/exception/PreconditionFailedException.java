@@ -0,0 +1,42 @@
+package com.pikolinc.meliecommerce.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a conditional request does not match the current state
+ * of the target resource.
+ * <p>
+ * This exception results in an HTTP {@code 412 Precondition Failed} response and is
+ * typically used when the {@code If-Match} header of an update carries an entity tag
+ * other than the current version of the entity.
+ * </p>
+ *
+ * <p><strong>Usage example:</strong></p>
+ * <pre>{@code
+ * throw new PreconditionFailedException("Item " + id + " is at version " + item.getVersion());
+ * }</pre>
+ *
+ * @see HttpStatus#PRECONDITION_FAILED
+ * @see ResponseException
+ */
+public class PreconditionFailedException extends ResponseException {
+
+    /**
+     * Constructs a new {@code PreconditionFailedException} with the specified detail message.
+     *
+     * @param message a descriptive message explaining which precondition failed
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the HTTP status code for this exception.
+     *
+     * @return {@link HttpStatus#PRECONDITION_FAILED} (412)
+     */
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.PRECONDITION_FAILED;
+    }
+}
@@ -21,18 +21,43 @@ import org.springframework.http.HttpStatus;
  *     <li>Override {@link #getHttpStatus()} to specify the appropriate HTTP status code.</li>
  * </ul>
  *
+ * <p><strong>Stack traces:</strong> these exceptions are expected outcomes (e.g. a 404 for an unknown ID)
+ * answered by {@code GlobalExceptionControllerAdvice} from their status and message alone, so they
+ * neither capture a stack trace nor record suppressed exceptions; filling in the stack of a deep
+ * request thread is the main cost of throwing. For debugging, start the JVM with
+ * {@code -D}{@value #STACK_TRACES_PROPERTY}{@code =true} to capture them again; the property is read
+ * once, when this class is loaded, so it applies to the whole JVM and cannot differ between
+ * application contexts. A subclass whose origin always matters can capture its trace through
+ * {@link #ResponseException(String, boolean)}.</p>
+ *
  * @author Juan
  * @see org.springframework.http.HttpStatus
  */
 public abstract class ResponseException extends RuntimeException {
 
+    /** JVM system property that turns stack trace capture on for every {@code ResponseException}. */
+    public static final String STACK_TRACES_PROPERTY = "app.exceptions.stack-traces";
+
+    private static final boolean STACK_TRACES = Boolean.getBoolean(STACK_TRACES_PROPERTY);
+
     /**
-     * Constructs a new {@code ResponseException} with the specified detail message.
+     * Constructs a new {@code ResponseException} with the specified detail message, without a stack
+     * trace unless {@value #STACK_TRACES_PROPERTY} is set.
      *
      * @param message a descriptive message explaining the reason for the exception
      */
     public ResponseException(String message) {
-        super(message);
+        this(message, STACK_TRACES);
+    }
+
+    /**
+     * Constructs a new {@code ResponseException} with the specified detail message.
+     *
+     * @param message            a descriptive message explaining the reason for the exception
+     * @param writableStackTrace whether the exception captures its stack trace
+     */
+    protected ResponseException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
     }
 
     /**
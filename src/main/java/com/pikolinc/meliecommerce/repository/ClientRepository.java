@@ -1,7 +1,16 @@
 package com.pikolinc.meliecommerce.repository;
 
 import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * Repository interface for performing CRUD operations on {@link Client} entities.
@@ -17,10 +26,64 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * </ul>
  *
  * <p><strong>Custom queries:</strong></p>
- * <p>Additional query methods can be defined following Spring Data JPA conventions,
- * for example {@code findByEmail(String email)}.</p>
+ * <ul>
+ *     <li>{@link #findAllBy(Pageable)} – lists clients without counting the total</li>
+ *     <li>{@link #findByIdGreaterThanOrderByIdAsc(Long, Limit)} – keyset pagination over all clients</li>
+ *     <li>{@link #findByIdWithOrders(Long, Pageable)} – a client and a page of its orders in one query</li>
+ * </ul>
  *
  * @see Client
  * @see org.springframework.data.jpa.repository.JpaRepository
  */
-public interface ClientRepository extends JpaRepository<Client, Long> { }
+@Transactional(readOnly = true)
+public interface ClientRepository extends JpaRepository<Client, Long> {
+
+    /**
+     * Finds a slice of {@link Client} entities.
+     * Unlike {@code findAll(Pageable)}, no {@code COUNT(*)} query is executed.
+     *
+     * @param pageable the pagination information (page number, size, sorting)
+     * @return a slice of clients that only knows whether a next slice exists
+     */
+    Slice<Client> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the {@link Client} entities whose ID is greater than the given one, ordered by ID.
+     * Used for keyset pagination, where {@code id} is the last ID of the previous page.
+     *
+     * @param id    the ID after which the page starts
+     * @param limit the maximum number of clients to return
+     * @return the clients following the given ID, in ascending ID order
+     */
+    List<Client> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Finds a client together with a page of its orders, in ascending order ID, with a single
+     * {@code clients LEFT JOIN order_view} statement that reads the orders through the
+     * {@code (client_id, order_id)} index of the view.
+     * <p>
+     * A client without orders yields one row whose {@link ClientOrder#getOrder() order} is {@code null},
+     * so the existence of the client is known without a separate query. No rows means the client does
+     * not exist, or that the page starts after its last order.
+     * </p>
+     *
+     * @param clientId the ID of the client
+     * @param pageable the page of orders to read (sorting is ignored, orders are sorted by ID)
+     * @return one row per order of the page, a single row without order, or no rows
+     */
+    @Query("select c as client, v as order from Client c left join OrderView v on v.clientId = c.id"
+            + " where c.id = :clientId order by v.orderId")
+    List<ClientOrder> findByIdWithOrders(@Param("clientId") Long clientId, Pageable pageable);
+
+    /**
+     * Row of {@link #findByIdWithOrders(Long, Pageable)}.
+     */
+    interface ClientOrder {
+
+        /** @return the client, present in every row */
+        Client getClient();
+
+        /** @return an order of the client, or {@code null} if the client has no orders */
+        OrderView getOrder();
+    }
+}
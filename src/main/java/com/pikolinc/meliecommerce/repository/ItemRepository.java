@@ -1,7 +1,16 @@
 package com.pikolinc.meliecommerce.repository;
 
 import com.pikolinc.meliecommerce.domain.entity.Item;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Item} entities in the database.
@@ -16,10 +25,44 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * </ul>
  *
  * <p><strong>Custom queries:</strong></p>
- * <p>You can define additional query methods following Spring Data JPA conventions,
- * for example {@code findByName(String name)}.</p>
+ * <ul>
+ *     <li>{@link #findAllBy(Pageable)} – lists items without counting the total</li>
+ *     <li>{@link #findByIdGreaterThanOrderByIdAsc(Long, Limit)} – keyset pagination over all items</li>
+ *     <li>{@link #findVersionById(Long)} – reads the version of an item without loading it</li>
+ * </ul>
  *
  * @see Item
  * @see org.springframework.data.jpa.repository.JpaRepository
  */
-public interface ItemRepository extends JpaRepository<Item, Long> { }
+@Transactional(readOnly = true)
+public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    /**
+     * Finds a slice of {@link Item} entities.
+     * Unlike {@code findAll(Pageable)}, no {@code COUNT(*)} query is executed.
+     *
+     * @param pageable the pagination information (page number, size, sorting)
+     * @return a slice of items that only knows whether a next slice exists
+     */
+    Slice<Item> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the {@link Item} entities whose ID is greater than the given one, ordered by ID.
+     * Used for keyset pagination, where {@code id} is the last ID of the previous page.
+     *
+     * @param id    the ID after which the page starts
+     * @param limit the maximum number of items to return
+     * @return the items following the given ID, in ascending ID order
+     */
+    List<Item> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads the optimistic-lock version of an {@link Item} without loading the entity, to answer a
+     * conditional {@code GET} with a single-column primary key lookup.
+     *
+     * @param id the ID of the item
+     * @return the version, or empty if the item does not exist
+     */
+    @Query("select i.version from Item i where i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+}
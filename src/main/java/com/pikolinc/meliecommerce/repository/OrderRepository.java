@@ -1,9 +1,19 @@
 package com.pikolinc.meliecommerce.repository;
 
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.domain.entity.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Order} entities in the database.
@@ -15,26 +25,132 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * <ul>
  *     <li>{@code save(Order entity)} – persist or update an order</li>
  *     <li>{@code findById(Long id)} – retrieve a specific order</li>
- *     <li>{@code findAll(Pageable pageable)} – list orders with pagination</li>
  *     <li>{@code delete(Order entity)} – delete an order from the database</li>
  * </ul>
  *
  * <p><strong>Custom query methods:</strong></p>
  * <ul>
- *     <li>{@link #findByClientId(Long, Pageable)} – fetches all orders that belong to a given client</li>
+ *     <li>{@link #countByClientId(Long)} – counts the orders that belong to a given client</li>
+ *     <li>{@link #findMaxId()} – the highest order ID, to walk all orders in ID ranges</li>
+ *     <li>{@link #findByIdAndClientId(Long, Long)} – retrieves an order only if it belongs to a given client</li>
+ *     <li>{@link #deleteByIdAndClientId(Long, Long)} – deletes an order only if it belongs to a given client</li>
+ *     <li>{@link #clientExists(Long)}, {@link #itemExists(Long)} – tell which reference of a rejected order write is missing</li>
+ *     <li>{@link #findClientAndItem(Long, Long)} – reads the client and item of an order, bypassing the second-level cache</li>
  * </ul>
  *
+ * <p>
+ * Orders are written through this repository, but listings and other order responses are read
+ * from the denormalized {@link OrderViewRepository order view}, so no listing query is declared here.
+ * </p>
+ * <p>
+ * Like the inherited finders, the query methods declared here run in a read-only transaction when
+ * called outside one, so Hibernate neither keeps dirty-checking snapshots of the loaded orders nor
+ * flushes. Inside a service transaction they join it.
+ * </p>
+ *
  * @see Order
  * @see org.springframework.data.jpa.repository.JpaRepository
  */
+@Transactional(readOnly = true)
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * Finds all {@link Order} entities associated with a specific client, using pagination.
+     * Counts the {@link Order} entities associated with a specific client.
+     *
+     * @param clientId the ID of the client whose orders should be counted
+     * @return the number of orders belonging to the specified client
+     */
+    long countByClientId(Long clientId);
+
+    /**
+     * Returns the highest order ID.
+     *
+     * @return the highest order ID, or {@code 0} if there are no orders
+     */
+    @Query("select coalesce(max(o.id), 0) from Order o")
+    long findMaxId();
+
+    /**
+     * Finds an {@link Order} by its ID, provided it belongs to the given client. Its client and
+     * item are left as uninitialized references.
+     * <p>
+     * Ownership is checked in the {@code WHERE} clause, so an order of another client is not loaded.
+     * </p>
+     *
+     * @param id       the ID of the order
+     * @param clientId the ID of the client expected to own the order
+     * @return the order, or empty if it does not exist or belongs to another client
+     */
+    Optional<Order> findByIdAndClientId(Long id, Long clientId);
+
+    /**
+     * Deletes an {@link Order} by its ID, provided it belongs to the given client, with a single
+     * {@code DELETE} statement.
+     * <p>
+     * The order is not loaded first, so its version is not checked; orders are not held in the
+     * second-level cache, so there is no cache entry to evict.
+     * </p>
      *
-     * @param clientId the ID of the client whose orders should be retrieved
-     * @param pageable the pagination information (page number, size, sorting)
-     * @return a page of orders belonging to the specified client
+     * @param id       the ID of the order
+     * @param clientId the ID of the client expected to own the order
+     * @return the number of deleted orders: {@code 1}, or {@code 0} if the order does not exist or belongs to another client
      */
-    Page<Order> findByClientId(Long clientId, Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query("delete from Order o where o.id = :id and o.client.id = :clientId")
+    int deleteByIdAndClientId(@Param("id") Long id, @Param("clientId") Long clientId);
+
+    /**
+     * Checks whether a client exists, after a write of an order referencing it was rejected.
+     * <p>
+     * Runs in a new read-write transaction: on PostgreSQL the failed write aborted the current one,
+     * and the check has to see the primary, which rejected the write, rather than a replica.
+     * </p>
+     *
+     * @param clientId the ID of the client referenced by the order
+     * @return {@code true} if the client exists
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("select case when count(c) > 0 then true else false end from Client c where c.id = :clientId")
+    boolean clientExists(@Param("clientId") Long clientId);
+
+    /**
+     * Checks whether an item exists, after a write of an order referencing it was rejected.
+     * Runs in a new read-write transaction, see {@link #clientExists(Long)}.
+     *
+     * @param itemId the ID of the item referenced by the order
+     * @return {@code true} if the item exists
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("select case when count(i) > 0 then true else false end from Item i where i.id = :itemId")
+    boolean itemExists(@Param("itemId") Long itemId);
+
+    /**
+     * Reads a client and an item with one query, bypassing the second-level cache.
+     * <p>
+     * Used before copying them to the {@link com.pikolinc.meliecommerce.domain.entity.OrderView order view}:
+     * the cache of this instance may still hold values that another instance has since changed, while
+     * the snapshot must hold the current price. References to them held by the persistence context
+     * are initialized with the rows read; the entities are also returned.
+     * </p>
+     *
+     * @param clientId the ID of the client
+     * @param itemId   the ID of the item
+     * @return the client and the item, or empty if either does not exist
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("select c as client, i as item from Client c, Item i where c.id = :clientId and i.id = :itemId")
+    Optional<ClientItem> findClientAndItem(@Param("clientId") Long clientId, @Param("itemId") Long itemId);
+
+    /**
+     * Row of {@link #findClientAndItem(Long, Long)}.
+     */
+    interface ClientItem {
+
+        /** @return the client */
+        Client getClient();
+
+        /** @return the item */
+        Item getItem();
+    }
 }
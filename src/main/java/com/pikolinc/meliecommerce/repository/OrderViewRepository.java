@@ -0,0 +1,124 @@
+package com.pikolinc.meliecommerce.repository;
+
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for the {@link OrderView} read model of orders.
+ * <p>
+ * Every order response is read from here: each method scans a single table through its primary key
+ * or one of its indexes, without joining clients or items. Rows are saved by the order services
+ * together with the order they describe; orders written by other means get theirs from
+ * {@link #insertMissing(long, long)}.
+ * </p>
+ *
+ * <p><strong>Custom query methods:</strong></p>
+ * <ul>
+ *     <li>{@link #findAllByOrderByOrderIdAsc(Pageable)} – lists all orders in ID order</li>
+ *     <li>{@link #findByOrderIdGreaterThanOrderByOrderIdAsc(Long, Limit)} – keyset pagination over all orders</li>
+ *     <li>{@link #findByOrderIdAndClientId(Long, Long)} – retrieves an order only if it belongs to a given client</li>
+ *     <li>{@link #streamByPurchaseDate(LocalDate, LocalDate)} – scrolls through all orders for the export</li>
+ *     <li>{@link #insertMissing(long, long)} – creates the rows of orders that have none</li>
+ * </ul>
+ * <p>
+ * Client-scoped listings are read by {@link ClientRepository#findByIdWithOrders(Long, Pageable)},
+ * which also tells whether the client exists.
+ * </p>
+ *
+ * @see OrderView
+ */
+@Transactional(readOnly = true)
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    /** Rows fetched from the database per round trip by {@link #streamByPurchaseDate(LocalDate, LocalDate)}. */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Finds a slice of orders in ascending ID order, without counting the total.
+     *
+     * @param pageable the pagination information (page number and size)
+     * @return a slice of orders
+     */
+    Slice<OrderView> findAllByOrderByOrderIdAsc(Pageable pageable);
+
+    /**
+     * Finds the orders whose ID is greater than the given one, ordered by ID.
+     * Used for keyset pagination, where {@code orderId} is the last ID of the previous page.
+     *
+     * @param orderId the ID after which the page starts
+     * @param limit   the maximum number of orders to return
+     * @return the orders following the given ID, in ascending ID order
+     */
+    List<OrderView> findByOrderIdGreaterThanOrderByOrderIdAsc(Long orderId, Limit limit);
+
+    /**
+     * Finds an order by its ID, provided it belongs to the given client.
+     *
+     * @param orderId  the ID of the order
+     * @param clientId the ID of the client expected to own the order
+     * @return the order, or empty if it does not exist or belongs to another client
+     */
+    Optional<OrderView> findByOrderIdAndClientId(Long orderId, Long clientId);
+
+    /**
+     * Streams the orders purchased within the given dates, in ascending ID order.
+     * <p>
+     * Rows are read from a database cursor {@value #EXPORT_FETCH_SIZE} at a time, as read-only
+     * entities. The stream must be consumed inside a transaction and closed afterwards; callers
+     * reading many rows should clear the persistence context periodically, as streamed rows stay managed.
+     * </p>
+     *
+     * @param from the first purchase date to include, or {@code null} for no lower bound
+     * @param to   the last purchase date to include, or {@code null} for no upper bound
+     * @return the matching orders, in ascending ID order
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select v from OrderView v"
+            + " where (:from is null or v.purchaseDate >= :from) and (:to is null or v.purchaseDate <= :to)"
+            + " order by v.orderId")
+    Stream<OrderView> streamByPurchaseDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Inserts a row for every order of an ID range that has none, e.g. orders inserted directly in
+     * the database, with a single {@code INSERT ... SELECT}. Like the backfill of
+     * {@code V5__order_view.sql}, the snapshot is taken from the current client and item.
+     *
+     * @param afterId the ID after which the range starts (exclusive)
+     * @param lastId  the last ID of the range (inclusive)
+     * @return the number of inserted rows
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO order_view (order_id, order_version, purchase_date, delivery_date,
+                                    client_id, client_name, client_address, client_age, client_version,
+                                    item_id, item_name, item_description, item_price, item_version)
+            SELECT o.id, o.version, o.purchase_date, o.delivery_date,
+                   c.id, c.name, c.address, c.age, c.version,
+                   i.id, i.name, i.description, i.price, i.version
+            FROM orders o
+                     LEFT JOIN clients c ON c.id = o.id_client
+                     LEFT JOIN items i ON i.id = o.id_item
+            WHERE o.id > :afterId AND o.id <= :lastId
+              AND NOT EXISTS (SELECT 1 FROM order_view v WHERE v.order_id = o.id)
+            """)
+    int insertMissing(@Param("afterId") long afterId, @Param("lastId") long lastId);
+}
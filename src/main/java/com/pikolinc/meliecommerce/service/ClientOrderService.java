@@ -1,22 +1,34 @@
 package com.pikolinc.meliecommerce.service;
 
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateForClientDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
 import com.pikolinc.meliecommerce.domain.entity.Client;
 import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
 import com.pikolinc.meliecommerce.exception.ForbiddenException;
 import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.PreconditionFailedException;
+import com.pikolinc.meliecommerce.exception.ResponseException;
 import com.pikolinc.meliecommerce.repository.ClientRepository;
 import com.pikolinc.meliecommerce.repository.ItemRepository;
 import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
 import jakarta.validation.constraints.Min;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service responsible for handling operations related to orders belonging to specific clients.
@@ -24,34 +36,62 @@ import java.util.List;
  * Provides methods to retrieve, create, update, and delete orders, enforcing that
  * each order is properly associated with the correct client.
  * </p>
+ * <p>
+ * Ownership is checked in SQL: orders are looked up and deleted by order <em>and</em> client ID,
+ * so the common case is a single statement. Only when nothing matches is a second query issued
+ * to tell an unknown order ({@code 404}) from an order of another client ({@code 403}).
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class ClientOrderService {
 
     private final ClientRepository clientRepository;
     private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
     private final ItemRepository itemRepository;
 
     /**
-     * Retrieves a paginated list of orders associated with a given client.
+     * Retrieves a paginated list of orders associated with a given client, in ascending ID order.
+     * <p>
+     * The client and the page of orders are read with one query; the existence of the client is only
+     * probed separately when the page comes back empty.
+     * </p>
      *
      * @param clientId the ID of the client whose orders are being fetched.
      * @param pageable pagination information.
      * @return a list of {@link OrderResponseDTO} representing the client's orders.
      * @throws NotFoundException if no client exists with the provided ID.
      */
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> getOrdersByClientId(Long clientId, Pageable pageable) {
-        if (!clientRepository.existsById(clientId)) {
+        List<ClientRepository.ClientOrder> rows = clientRepository.findByIdWithOrders(clientId, pageable);
+
+        // No row at all: either an unknown client or a page past its last order
+        if (rows.isEmpty() && !clientRepository.existsById(clientId)) {
             throw new NotFoundException("Client not found with ID: " + clientId);
         }
 
-        Page<Order> ordersPage = orderRepository.findByClientId(clientId, pageable);
-        return ordersPage.stream()
+        return rows.stream()
+                .map(ClientRepository.ClientOrder::getOrder)
+                .filter(Objects::nonNull)
                 .map(OrderService::toResponseDTO)
                 .toList();
     }
 
+    /**
+     * Counts the orders associated with a given client.
+     * Only used when a caller explicitly asks for the total.
+     *
+     * @param clientId the ID of the client whose orders are counted.
+     * @return the total number of orders of the client.
+     */
+    @Transactional(readOnly = true)
+    public long countOrdersByClientId(Long clientId) {
+        return orderRepository.countByClientId(clientId);
+    }
+
     /**
      * Retrieves a specific order for a client by its ID, validating ownership.
      *
@@ -61,68 +101,131 @@ public class ClientOrderService {
      * @throws NotFoundException   if the order does not exist.
      * @throws ForbiddenException  if the order does not belong to the specified client.
      */
+    @Transactional(readOnly = true)
     public OrderResponseDTO getOrderByClientAndId(Long clientId, Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("Order not found with ID: " + orderId));
-
-        if (!order.getClient().getId().equals(clientId))
-            throw new ForbiddenException("Order " + orderId + " does not belong to client " + clientId);
+        OrderView order = orderViewRepository.findByOrderIdAndClientId(orderId, clientId)
+                .orElseThrow(() -> ownershipFailure(clientId, orderId));
 
         return OrderService.toResponseDTO(order);
     }
 
     /**
      * Creates a new order for the specified client.
+     * <p>
+     * The client and item are attached as references; an unknown ID is reported by the foreign
+     * keys of {@code orders} when the insert is flushed, see {@link OrderService#createOrder}.
+     * </p>
      *
      * @param clientId   the ID of the client placing the order.
      * @param requestDTO the data transfer object containing order creation details.
      * @return the created order as an {@link OrderResponseDTO}.
      * @throws NotFoundException if either the client or the item does not exist.
      */
+    @Transactional
     public OrderResponseDTO createOrderForClient(Long clientId, OrderCreateForClientDTO requestDTO) {
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new NotFoundException("Client not found with ID: " + clientId));
-
-        Item item = itemRepository.findById(requestDTO.itemId())
-                .orElseThrow(() -> new NotFoundException("Item not found with ID: " + requestDTO.itemId()));
-
         Order order = Order.builder()
-                .client(client)
-                .item(item)
+                .client(clientRepository.getReferenceById(clientId))
+                .item(itemRepository.getReferenceById(requestDTO.itemId()))
                 .purchaseDate(requestDTO.purchaseDate())
                 .deliveryDate(requestDTO.deliveryDate())
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
-        return OrderService.toResponseDTO(savedOrder);
+        Order savedOrder = OrderService.saveAndFlush(orderRepository, order,
+                "Client not found with ID: " + clientId,
+                "Item not found with ID: " + requestDTO.itemId());
+        return OrderService.toResponseDTO(OrderService.createView(orderRepository, orderViewRepository, savedOrder));
+    }
+
+    /**
+     * Creates many orders for the specified client in a single transaction.
+     * <p>
+     * All referenced items are resolved with one {@code findAllById}, and the new orders are
+     * saved together so Hibernate can send the inserts in JDBC batches. Rows whose item does
+     * not exist are reported as {@code 404} and skipped; the other rows are created.
+     * </p>
+     *
+     * @param clientId    the ID of the client placing the orders.
+     * @param requestDTOs the orders to create.
+     * @return one {@link OrderBatchResultDTO} per requested order, in request order.
+     * @throws NotFoundException if the client does not exist.
+     */
+    @Transactional
+    public List<OrderBatchResultDTO> createOrdersForClient(Long clientId, List<OrderCreateForClientDTO> requestDTOs) {
+        Client client = clientRepository.findById(clientId)
+                .orElseThrow(() -> new NotFoundException("Client not found with ID: " + clientId));
+
+        Map<Long, Item> items = itemRepository
+                .findAllById(requestDTOs.stream().map(OrderCreateForClientDTO::itemId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        OrderBatchResultDTO[] results = new OrderBatchResultDTO[requestDTOs.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+
+        for (int index = 0; index < requestDTOs.size(); index++) {
+            OrderCreateForClientDTO dto = requestDTOs.get(index);
+            Item item = items.get(dto.itemId());
+
+            if (item == null) {
+                results[index] = OrderBatchResultDTO.notFound(index, "Item not found with ID: " + dto.itemId());
+            } else {
+                orders.add(Order.builder()
+                        .client(client)
+                        .item(item)
+                        .purchaseDate(dto.purchaseDate())
+                        .deliveryDate(dto.deliveryDate())
+                        .build());
+                orderIndexes.add(index);
+            }
+        }
+
+        // The orders are flushed first: insert ordering sorts batches by entity, and nothing ties the
+        // order_view rows to their orders for it, while fk_order_view_order needs the orders inserted
+        List<Order> savedOrders = orderRepository.saveAllAndFlush(orders);
+        List<OrderView> views = orderViewRepository.saveAll(savedOrders.stream().map(OrderView::of).toList());
+        for (int i = 0; i < views.size(); i++) {
+            int index = orderIndexes.get(i);
+            results[index] = OrderBatchResultDTO.created(index, OrderService.toResponseDTO(views.get(i)));
+        }
+
+        return List.of(results);
     }
 
     /**
      * Updates an existing order for a given client.
+     * <p>
+     * The update is applied with optimistic locking: if the order is modified concurrently
+     * between the read and the write, the write fails with an
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException} instead of
+     * overwriting the other change.
+     * </p>
      *
-     * @param clientId   the ID of the client who owns the order.
-     * @param orderId    the ID of the order to update.
-     * @param requestDTO the data transfer object containing updated order details.
+     * @param clientId        the ID of the client who owns the order.
+     * @param orderId         the ID of the order to update.
+     * @param requestDTO      the data transfer object containing updated order details.
+     * @param expectedVersion the version the caller based the update on, or {@code null} to update any version.
      * @return the updated order as an {@link OrderResponseDTO}.
-     * @throws NotFoundException  if the order or new item does not exist.
-     * @throws ForbiddenException if the order does not belong to the specified client.
+     * @throws NotFoundException           if the order or new item does not exist.
+     * @throws ForbiddenException          if the order does not belong to the specified client.
+     * @throws PreconditionFailedException if {@code expectedVersion} is not the current version of the order.
      */
-    public OrderResponseDTO updateOrder(Long clientId, Long orderId, OrderCreateForClientDTO requestDTO) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("Order not found with ID: " + orderId));
-
-        if (!order.getClient().getId().equals(clientId))
-            throw new ForbiddenException("Order " + orderId + " does not belong to client " + clientId);
+    @Transactional
+    public OrderResponseDTO updateOrder(Long clientId, Long orderId, OrderCreateForClientDTO requestDTO, Long expectedVersion) {
+        Order order = orderRepository.findByIdAndClientId(orderId, clientId)
+                .orElseThrow(() -> ownershipFailure(clientId, orderId));
 
-        Item newItem = itemRepository.findById(requestDTO.itemId())
-                .orElseThrow(() -> new NotFoundException("Item not found with ID: " + requestDTO.itemId()));
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion()))
+            throw new PreconditionFailedException("Order " + orderId + " has been modified, current version is " + order.getVersion());
 
-        order.setItem(newItem);
+        order.setItem(itemRepository.getReferenceById(requestDTO.itemId()));
         order.setPurchaseDate(requestDTO.purchaseDate());
         order.setDeliveryDate(requestDTO.deliveryDate());
 
-        orderRepository.save(order);
-        return OrderService.toResponseDTO(order);
+        Order updated = OrderService.saveAndFlush(orderRepository, order,
+                "Client not found with ID: " + clientId,
+                "Item not found with ID: " + requestDTO.itemId());
+        return OrderService.toResponseDTO(OrderService.updateView(orderRepository, orderViewRepository, updated));
     }
 
     /**
@@ -133,13 +236,23 @@ public class ClientOrderService {
      * @throws NotFoundException  if the order does not exist.
      * @throws ForbiddenException if the order does not belong to the specified client.
      */
+    @Transactional
     public void deleteOrder(@Min(1) Long clientId, @Min(1) Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("Order not found with ID: " + orderId));
-
-        if (!order.getClient().getId().equals(clientId))
-            throw new ForbiddenException("Order " + orderId + " does not belong to client " + clientId);
+        if (orderRepository.deleteByIdAndClientId(orderId, clientId) == 0)
+            throw ownershipFailure(clientId, orderId);
+    }
 
-        orderRepository.delete(order);
+    /**
+     * Builds the exception for an order that was not found for a client, probing whether it
+     * exists at all.
+     *
+     * @param clientId the ID of the client.
+     * @param orderId  the ID of the order.
+     * @return a {@link ForbiddenException} if the order belongs to another client, a {@link NotFoundException} otherwise.
+     */
+    private ResponseException ownershipFailure(Long clientId, Long orderId) {
+        if (orderRepository.existsById(orderId))
+            return new ForbiddenException("Order " + orderId + " does not belong to client " + clientId);
+        return new NotFoundException("Order not found with ID: " + orderId);
     }
 }
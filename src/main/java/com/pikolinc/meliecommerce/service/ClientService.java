@@ -1,16 +1,26 @@
 package com.pikolinc.meliecommerce.service;
 
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.dto.importing.ImportResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientResponseDTO;
 import com.pikolinc.meliecommerce.domain.dto.client.ClientUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
 import com.pikolinc.meliecommerce.domain.entity.Client;
 import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.PreconditionFailedException;
 import com.pikolinc.meliecommerce.repository.ClientRepository;
 import jakarta.validation.Valid;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,9 +32,11 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class ClientService {
 
     private final ClientRepository clientRepository;
+    private final ImportService importService;
 
     /**
      * Retrieves all clients with pagination support.
@@ -32,11 +44,35 @@ public class ClientService {
      * @param pageable pagination information.
      * @return a list of {@link ClientResponseDTO} objects representing the clients.
      */
+    @Transactional(readOnly = true)
     public List<ClientResponseDTO> getAllClients(Pageable pageable) {
-        List<Client> clients = this.clientRepository.findAll(pageable).getContent();
+        List<Client> clients = this.clientRepository.findAllBy(pageable).getContent();
         return clients.stream().map(ClientService::toResponseDTO).toList();
     }
 
+    /**
+     * Counts all clients. Only used when a caller explicitly asks for the total.
+     *
+     * @return the total number of clients.
+     */
+    @Transactional(readOnly = true)
+    public long countClients() {
+        return this.clientRepository.count();
+    }
+
+    /**
+     * Retrieves the clients following the given ID using keyset pagination.
+     *
+     * @param afterId the ID after which the page starts ({@code 0} for the first page).
+     * @param size    the maximum number of clients to return.
+     * @return a {@link CursorPage} of {@link ClientResponseDTO} with the cursor of the next page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ClientResponseDTO> getClientsAfter(Long afterId, int size) {
+        List<Client> clients = this.clientRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        return CursorPage.of(clients, size, Client::getId, ClientService::toResponseDTO);
+    }
+
     /**
      * Retrieves a client by its unique identifier.
      *
@@ -44,6 +80,7 @@ public class ClientService {
      * @return a {@link ClientResponseDTO} representing the client.
      * @throws NotFoundException if no client exists with the specified ID.
      */
+    @Transactional(readOnly = true)
     public ClientResponseDTO getClientById(Long id) {
         Client client = clientRepository
                 .findById(id)
@@ -58,29 +95,58 @@ public class ClientService {
      * @param clientCreateDTO the data transfer object containing the client's creation details.
      * @return a {@link ClientResponseDTO} representing the newly created client.
      */
+    @Transactional
     public ClientResponseDTO addClient(@Valid ClientCreateDTO clientCreateDTO) {
         Client client = toEntity(clientCreateDTO);
         Client savedClient = this.clientRepository.save(client);
         return toResponseDTO(savedClient);
     }
 
+    /**
+     * Creates clients from the rows of a CSV or NDJSON body, validated as {@link ClientCreateDTO}.
+     * <p>
+     * Not transactional as a whole: valid rows are committed in chunks while the body is read,
+     * and rejected rows are reported without aborting the import (see {@link ImportService}).
+     * </p>
+     *
+     * @param body        the uploaded body
+     * @param contentType {@code text/csv} or {@code application/x-ndjson}
+     * @return an {@link ImportResultDTO} with the imported and rejected rows
+     * @throws IOException if the body cannot be read
+     */
+    public ImportResultDTO importClients(InputStream body, MediaType contentType) throws IOException {
+        return this.importService.importRows(body, contentType, ClientCreateDTO.class, ClientService::toEntity, this.clientRepository);
+    }
+
     /**
      * Updates an existing client's information.
+     * <p>
+     * The update is applied with optimistic locking: if the client is modified concurrently
+     * between the read and the write, the write fails with an
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException} instead of
+     * overwriting the other change.
+     * </p>
      *
      * @param id               the ID of the client to update.
      * @param clientUpdateDTO  the data transfer object containing updated client details.
+     * @param expectedVersion  the version the caller based the update on, or {@code null} to update any version.
      * @return a {@link ClientResponseDTO} representing the updated client.
-     * @throws NotFoundException if no client exists with the specified ID.
+     * @throws NotFoundException           if no client exists with the specified ID.
+     * @throws PreconditionFailedException if {@code expectedVersion} is not the current version of the client.
      */
-    public ClientResponseDTO updateClient(Long id, @Valid ClientUpdateDTO clientUpdateDTO) {
+    @Transactional
+    public ClientResponseDTO updateClient(Long id, @Valid ClientUpdateDTO clientUpdateDTO, Long expectedVersion) {
         Client client = clientRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Client not found with id " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(client.getVersion()))
+            throw new PreconditionFailedException("Client " + id + " has been modified, current version is " + client.getVersion());
+
         client.setName(clientUpdateDTO.name());
         client.setAge(clientUpdateDTO.age());
         client.setAddress(clientUpdateDTO.address());
 
-        Client updated = clientRepository.save(client);
+        Client updated = clientRepository.saveAndFlush(client);
         return toResponseDTO(updated);
     }
 
@@ -90,6 +156,7 @@ public class ClientService {
      * @param id the ID of the client to delete.
      * @throws NotFoundException if no client exists with the specified ID.
      */
+    @Transactional
     public void deleteClient(Long id) {
         Client client = clientRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Client not found with id " + id));
@@ -108,7 +175,8 @@ public class ClientService {
                 client.getId(),
                 client.getName(),
                 client.getAddress(),
-                client.getAge()
+                client.getAge(),
+                client.getVersion()
         );
     }
 
@@ -118,7 +186,7 @@ public class ClientService {
      * @param clientCreateDTO the DTO containing client creation data.
      * @return a new {@link Client} entity.
      */
-    private Client toEntity(ClientCreateDTO clientCreateDTO) {
+    static Client toEntity(ClientCreateDTO clientCreateDTO) {
         return Client.builder()
                 .name(clientCreateDTO.name())
                 .address(clientCreateDTO.address())
@@ -0,0 +1,229 @@
+package com.pikolinc.meliecommerce.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.pikolinc.meliecommerce.config.ImportProperties;
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.dto.importing.ImportResultDTO;
+import com.pikolinc.meliecommerce.exception.BadRequestException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class importing entities in bulk from a CSV or NDJSON request body.
+ * <p>
+ * The body is read line by line while it is uploaded. Every row is parsed into the creation DTO
+ * of the entity and validated with its bean validation constraints; invalid rows are reported and
+ * skipped without aborting the file. Valid rows are written {@code app.import.batch-size} at a time,
+ * each chunk in its own transaction and as a single JDBC batch, so memory stays bounded whatever
+ * the size of the file. Rows of chunks committed before a database error are kept.
+ * </p>
+ * <p>
+ * CSV bodies start with a header line naming the DTO properties (e.g. {@code name,description,price});
+ * empty cells are read as {@code null}. Values cannot contain line breaks, as rows are read per line.
+ * NDJSON bodies hold one JSON object per line. Blank lines are ignored in both formats.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ImportService {
+
+    /** Media type of CSV import bodies. */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    /** Reads the header line like a row, with the quoting and trimming rules of the rows. */
+    private static final ObjectReader CSV_HEADER_READER = CSV_MAPPER.readerFor(String[].class)
+            .with(CsvParser.Feature.WRAP_AS_ARRAY);
+
+    /** Byte order mark that some tools (e.g. spreadsheet exports) write before the header. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ImportProperties properties;
+
+    /**
+     * Imports the rows of a CSV or NDJSON body.
+     *
+     * @param body        the uploaded body, read until its end
+     * @param contentType the content type of the body ({@code text/csv} or {@code application/x-ndjson})
+     * @param rowType     the creation DTO every row is parsed into and validated as
+     * @param toEntity    maps a valid row to a new entity
+     * @param repository  the repository the entities are saved with
+     * @param <T>         the type of the creation DTO
+     * @param <E>         the type of the entity
+     * @return the number of imported and rejected rows, with the first rejected rows
+     * @throws BadRequestException if the content type is not supported or the CSV header is invalid
+     * @throws IOException         if the body cannot be read
+     */
+    public <T extends Record, E> ImportResultDTO importRows(InputStream body, MediaType contentType, Class<T> rowType,
+                                                            Function<T, E> toEntity, JpaRepository<E, ?> repository) throws IOException {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType))
+            throw new BadRequestException("Unsupported import format " + contentType);
+
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        long lineNumber = 0;
+        ObjectReader rowReader;
+        if (csv) {
+            rowReader = csvReader(rowType, reader.readLine());
+            lineNumber++;
+        } else {
+            rowReader = objectMapper.readerFor(rowType).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        }
+
+        Progress progress = new Progress(properties.maxReportedErrors());
+        List<E> batch = new ArrayList<>(properties.batchSize());
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank())
+                continue;
+
+            T row;
+            try {
+                row = rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.reject(lineNumber, "Malformed row: " + e.getOriginalMessage());
+                continue;
+            }
+            if (row == null) {
+                progress.reject(lineNumber, "Empty row");
+                continue;
+            }
+
+            Set<ConstraintViolation<T>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                progress.reject(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+
+            batch.add(toEntity.apply(row));
+            if (batch.size() == properties.batchSize())
+                progress.imported += save(batch, repository);
+        }
+        if (!batch.isEmpty())
+            progress.imported += save(batch, repository);
+
+        return new ImportResultDTO(progress.imported, progress.rejected, progress.errors);
+    }
+
+    /**
+     * Builds the reader of the CSV rows from the header line.
+     *
+     * @param rowType the creation DTO the rows are parsed into
+     * @param header  the first line of the body; column names may be quoted and padded with spaces
+     * @return a reader mapping the columns to the DTO properties of the same name
+     * @throws BadRequestException if the header is missing, malformed or names an unknown property
+     */
+    private static ObjectReader csvReader(Class<? extends Record> rowType, String header) {
+        if (header != null && header.startsWith(BYTE_ORDER_MARK))
+            header = header.substring(BYTE_ORDER_MARK.length());
+        if (header == null || header.isBlank())
+            throw new BadRequestException("The CSV header line is missing");
+
+        String[] columns;
+        try (MappingIterator<String[]> lines = CSV_HEADER_READER.readValues(header)) {
+            columns = lines.next();
+        } catch (IOException | RuntimeJsonMappingException e) {
+            throw new BadRequestException("Malformed CSV header: " + e.getMessage());
+        }
+
+        Set<String> properties = Arrays.stream(rowType.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toSet());
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : columns) {
+            // Empty cells are read as null
+            String name = column == null ? "" : column;
+            if (!properties.contains(name))
+                throw new BadRequestException("Unknown CSV column '" + name + "', expected some of " + properties);
+            schema.addColumn(name);
+        }
+        return CSV_MAPPER.readerFor(rowType).with(schema.build());
+    }
+
+    /**
+     * Saves a chunk of entities in its own transaction, as one JDBC batch and without
+     * populating the second-level cache, then empties the chunk.
+     *
+     * @param batch      the entities to insert
+     * @param repository the repository the entities are saved with
+     * @return the number of saved entities
+     */
+    private <E> int save(List<E> batch, JpaRepository<E, ?> repository) {
+        int size = batch.size();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(properties.batchSize());
+            session.setCacheMode(CacheMode.IGNORE);
+            repository.saveAll(batch);
+        });
+        batch.clear();
+        return size;
+    }
+
+    /** Counters of an import in progress. */
+    private static final class Progress {
+
+        private final int maxReportedErrors;
+        private final List<ImportResultDTO.RejectedRow> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors)
+                errors.add(new ImportResultDTO.RejectedRow(line, message));
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.pikolinc.meliecommerce.service;
 
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.dto.importing.ImportResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemResponseDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
 import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.PreconditionFailedException;
 import com.pikolinc.meliecommerce.repository.ItemRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -21,9 +32,12 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class ItemService {
 
     private final ItemRepository itemRepository;
+    private final ImportService importService;
+    private final EntityManager entityManager;
 
     /**
      * Retrieves all items with pagination support.
@@ -31,11 +45,35 @@ public class ItemService {
      * @param pageable pagination information.
      * @return a list of {@link ItemResponseDTO} representing the items.
      */
+    @Transactional(readOnly = true)
     public List<ItemResponseDTO> getAllItems(Pageable pageable) {
-        List<Item> items = this.itemRepository.findAll(pageable).getContent();
+        List<Item> items = this.itemRepository.findAllBy(pageable).getContent();
         return items.stream().map(ItemService::toResponseDTO).toList();
     }
 
+    /**
+     * Counts all items. Only used when a caller explicitly asks for the total.
+     *
+     * @return the total number of items.
+     */
+    @Transactional(readOnly = true)
+    public long countItems() {
+        return this.itemRepository.count();
+    }
+
+    /**
+     * Retrieves the items following the given ID using keyset pagination.
+     *
+     * @param afterId the ID after which the page starts ({@code 0} for the first page).
+     * @param size    the maximum number of items to return.
+     * @return a {@link CursorPage} of {@link ItemResponseDTO} with the cursor of the next page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ItemResponseDTO> getItemsAfter(Long afterId, int size) {
+        List<Item> items = this.itemRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        return CursorPage.of(items, size, Item::getId, ItemService::toResponseDTO);
+    }
+
     /**
      * Retrieves a single item by its unique identifier.
      *
@@ -43,6 +81,7 @@ public class ItemService {
      * @return an {@link ItemResponseDTO} representing the requested item.
      * @throws NotFoundException if no item exists with the specified ID.
      */
+    @Transactional(readOnly = true)
     public ItemResponseDTO getItemById(Long id) {
         Item item = itemRepository
                 .findById(id)
@@ -51,35 +90,86 @@ public class ItemService {
         return toResponseDTO(item);
     }
 
+    /**
+     * Returns the current version of an item, the basis of its {@code ETag}, as cheaply as possible.
+     * <p>
+     * An item held by the second-level cache is read from memory. Otherwise only its version is
+     * selected, which still costs a round trip to the database but neither loads nor maps the item.
+     * </p>
+     *
+     * @param id the ID of the item.
+     * @return the optimistic-lock version of the item.
+     * @throws NotFoundException if no item exists with the specified ID.
+     */
+    @Transactional(readOnly = true)
+    public Long getItemVersion(Long id) {
+        if (entityManager.getEntityManagerFactory().getCache().contains(Item.class, id))
+            return itemRepository.findById(id)
+                    .map(Item::getVersion)
+                    .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
+        return itemRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
+    }
+
     /**
      * Creates a new item.
      *
      * @param itemCreateDTO the data transfer object containing the new item details.
      * @return an {@link ItemResponseDTO} representing the created item.
      */
+    @Transactional
     public ItemResponseDTO addItem(ItemCreateDTO itemCreateDTO) {
         Item item = toEntity(itemCreateDTO);
         Item savedItem = this.itemRepository.save(item);
         return toResponseDTO(savedItem);
     }
 
+    /**
+     * Creates items from the rows of a CSV or NDJSON body, validated as {@link ItemCreateDTO}.
+     * <p>
+     * Not transactional as a whole: valid rows are committed in chunks while the body is read,
+     * and rejected rows are reported without aborting the import (see {@link ImportService}).
+     * </p>
+     *
+     * @param body        the uploaded body
+     * @param contentType {@code text/csv} or {@code application/x-ndjson}
+     * @return an {@link ImportResultDTO} with the imported and rejected rows
+     * @throws IOException if the body cannot be read
+     */
+    public ImportResultDTO importItems(InputStream body, MediaType contentType) throws IOException {
+        return this.importService.importRows(body, contentType, ItemCreateDTO.class, ItemService::toEntity, this.itemRepository);
+    }
+
     /**
      * Updates an existing item.
+     * <p>
+     * The update is applied with optimistic locking: if the item is modified concurrently
+     * between the read and the write, the write fails with an
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException} instead of
+     * overwriting the other change.
+     * </p>
      *
-     * @param id             the ID of the item to update.
-     * @param itemUpdateDTO  the data transfer object containing updated item details.
+     * @param id              the ID of the item to update.
+     * @param itemUpdateDTO   the data transfer object containing updated item details.
+     * @param expectedVersion the version the caller based the update on, or {@code null} to update any version.
      * @return an {@link ItemResponseDTO} representing the updated item.
-     * @throws NotFoundException if no item exists with the specified ID.
+     * @throws NotFoundException           if no item exists with the specified ID.
+     * @throws PreconditionFailedException if {@code expectedVersion} is not the current version of the item.
      */
-    public ItemResponseDTO updateItem(Long id, ItemUpdateDTO itemUpdateDTO) {
+    @Transactional
+    public ItemResponseDTO updateItem(Long id, ItemUpdateDTO itemUpdateDTO, Long expectedVersion) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(item.getVersion()))
+            throw new PreconditionFailedException("Item " + id + " has been modified, current version is " + item.getVersion());
+
         item.setName(itemUpdateDTO.name());
         item.setDescription(itemUpdateDTO.description());
         item.setPrice(itemUpdateDTO.price());
 
-        Item updated = itemRepository.save(item);
+        // Flushed so the incremented version is already in the response (ETag)
+        Item updated = itemRepository.saveAndFlush(item);
         return toResponseDTO(updated);
     }
 
@@ -89,6 +179,7 @@ public class ItemService {
      * @param id the ID of the item to delete.
      * @throws NotFoundException if no item exists with the specified ID.
      */
+    @Transactional
     public void deleteItem(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
@@ -107,7 +198,8 @@ public class ItemService {
                 item.getId(),
                 item.getName(),
                 item.getDescription(),
-                item.getPrice()
+                item.getPrice(),
+                item.getVersion()
         );
     }
 
@@ -117,7 +209,7 @@ public class ItemService {
      * @param itemCreateDTO the DTO containing item creation data.
      * @return a new {@link Item} entity.
      */
-    private Item toEntity(ItemCreateDTO itemCreateDTO) {
+    static Item toEntity(ItemCreateDTO itemCreateDTO) {
         return Item.builder()
                 .name(itemCreateDTO.name())
                 .description(itemCreateDTO.description())
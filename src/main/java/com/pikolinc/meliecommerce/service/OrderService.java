@@ -1,19 +1,41 @@
 package com.pikolinc.meliecommerce.service;
 
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.dto.client.ClientResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.item.ItemResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchResultDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
 import com.pikolinc.meliecommerce.domain.entity.Client;
 import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
 import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.PreconditionFailedException;
 import com.pikolinc.meliecommerce.repository.ClientRepository;
 import com.pikolinc.meliecommerce.repository.ItemRepository;
 import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class responsible for managing {@link Order} entities and related operations.
@@ -24,25 +46,55 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class OrderService {
 
+    /** Number of order IDs covered by each statement of {@link #reconcileOrderView()}. */
+    static final int RECONCILE_BATCH_SIZE = 10_000;
+
     private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
     private final ClientRepository clientRepository;
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
 
     /**
-     * Retrieves all orders with pagination support.
+     * Retrieves all orders with pagination support, in ascending ID order.
      *
      * @param pageable pagination information.
      * @return a list of {@link OrderResponseDTO} representing the retrieved orders.
      */
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> getAllOrders(Pageable pageable) {
-        List<Order> orders = this.orderRepository.findAll(pageable).getContent();
+        List<OrderView> orders = this.orderViewRepository.findAllByOrderByOrderIdAsc(pageable).getContent();
         return orders.stream()
                 .map(OrderService::toResponseDTO)
                 .toList();
     }
 
+    /**
+     * Counts all orders. Only used when a caller explicitly asks for the total.
+     *
+     * @return the total number of orders.
+     */
+    @Transactional(readOnly = true)
+    public long countOrders() {
+        return this.orderRepository.count();
+    }
+
+    /**
+     * Retrieves the orders following the given ID using keyset pagination.
+     *
+     * @param afterId the ID after which the page starts ({@code 0} for the first page).
+     * @param size    the maximum number of orders to return.
+     * @return a {@link CursorPage} of {@link OrderResponseDTO} with the cursor of the next page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponseDTO> getOrdersAfter(Long afterId, int size) {
+        List<OrderView> orders = this.orderViewRepository.findByOrderIdGreaterThanOrderByOrderIdAsc(afterId, Limit.of(size + 1));
+        return CursorPage.of(orders, size, OrderView::getOrderId, OrderService::toResponseDTO);
+    }
+
     /**
      * Retrieves a specific order by its unique identifier.
      *
@@ -50,62 +102,160 @@ public class OrderService {
      * @return an {@link OrderResponseDTO} representing the requested order.
      * @throws NotFoundException if no order exists with the specified ID.
      */
+    @Transactional(readOnly = true)
     public OrderResponseDTO getOrderById(Long id) {
-        Order order = orderRepository.findById(id)
+        OrderView order = orderViewRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found with id " + id));
         return toResponseDTO(order);
     }
 
+    /**
+     * Streams every order purchased within the given dates to a consumer, in ascending ID order.
+     * <p>
+     * Orders are read through a database cursor and the persistence context is cleared every
+     * {@value OrderViewRepository#EXPORT_FETCH_SIZE} rows, so memory stays constant whatever the
+     * number of orders.
+     * </p>
+     *
+     * @param from     the first purchase date to include, or {@code null} for no lower bound
+     * @param to       the last purchase date to include, or {@code null} for no upper bound
+     * @param consumer receives each order as an {@link OrderResponseDTO}
+     * @return the number of exported orders
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDate from, LocalDate to, Consumer<OrderResponseDTO> consumer) {
+        long count = 0;
+        try (Stream<OrderView> orders = orderViewRepository.streamByPurchaseDate(from, to)) {
+            Iterator<OrderView> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(toResponseDTO(iterator.next()));
+                if (++count % OrderViewRepository.EXPORT_FETCH_SIZE == 0)
+                    entityManager.clear();
+            }
+        }
+        return count;
+    }
+
     /**
      * Creates a new order using the provided data.
+     * <p>
+     * The client and item are attached as references and the insert is flushed right away, so an
+     * unknown ID is reported by the foreign keys of {@code orders} instead of being looked up first.
+     * Recording the order in the {@link OrderView order view} then reads both with one query, from
+     * the database rather than the second-level cache, see {@link #createView}.
+     * </p>
      *
      * @param orderCreateDTO the data transfer object containing the order details.
      * @return an {@link OrderResponseDTO} representing the created order.
      * @throws NotFoundException if the client or item specified in the DTO cannot be found.
      */
+    @Transactional
     public OrderResponseDTO createOrder(OrderCreateDTO orderCreateDTO) {
-        Client client = clientRepository.findById(orderCreateDTO.clientId())
-                .orElseThrow(() -> new NotFoundException("Client not found with id " + orderCreateDTO.clientId()));
-
-        Item item = itemRepository.findById(orderCreateDTO.itemId())
-                .orElseThrow(() -> new NotFoundException("Item not found with id " + orderCreateDTO.itemId()));
-
         Order order = Order.builder()
-                .client(client)
-                .item(item)
+                .client(clientRepository.getReferenceById(orderCreateDTO.clientId()))
+                .item(itemRepository.getReferenceById(orderCreateDTO.itemId()))
                 .purchaseDate(orderCreateDTO.purchaseDate())
                 .deliveryDate(orderCreateDTO.deliveryDate())
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
-        return toResponseDTO(savedOrder);
+        Order savedOrder = saveAndFlush(orderRepository, order,
+                "Client not found with id " + orderCreateDTO.clientId(),
+                "Item not found with id " + orderCreateDTO.itemId());
+        return toResponseDTO(createView(orderRepository, orderViewRepository, savedOrder));
+    }
+
+    /**
+     * Creates many orders in a single transaction.
+     * <p>
+     * All referenced clients and items are resolved with one {@code findAllById} each, and the
+     * new orders are saved together so Hibernate can send the inserts in JDBC batches. Rows whose
+     * client or item does not exist are reported as {@code 404} and skipped; the other rows are created.
+     * </p>
+     *
+     * @param orderCreateDTOs the orders to create.
+     * @return one {@link OrderBatchResultDTO} per requested order, in request order.
+     */
+    @Transactional
+    public List<OrderBatchResultDTO> createOrders(List<OrderCreateDTO> orderCreateDTOs) {
+        Map<Long, Client> clients = clientRepository
+                .findAllById(orderCreateDTOs.stream().map(OrderCreateDTO::clientId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+
+        Map<Long, Item> items = itemRepository
+                .findAllById(orderCreateDTOs.stream().map(OrderCreateDTO::itemId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        OrderBatchResultDTO[] results = new OrderBatchResultDTO[orderCreateDTOs.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+
+        for (int index = 0; index < orderCreateDTOs.size(); index++) {
+            OrderCreateDTO dto = orderCreateDTOs.get(index);
+            Client client = clients.get(dto.clientId());
+            Item item = items.get(dto.itemId());
+
+            if (client == null) {
+                results[index] = OrderBatchResultDTO.notFound(index, "Client not found with id " + dto.clientId());
+            } else if (item == null) {
+                results[index] = OrderBatchResultDTO.notFound(index, "Item not found with id " + dto.itemId());
+            } else {
+                orders.add(Order.builder()
+                        .client(client)
+                        .item(item)
+                        .purchaseDate(dto.purchaseDate())
+                        .deliveryDate(dto.deliveryDate())
+                        .build());
+                orderIndexes.add(index);
+            }
+        }
+
+        // The orders are flushed first: insert ordering sorts batches by entity, and nothing ties the
+        // order_view rows to their orders for it, while fk_order_view_order needs the orders inserted
+        List<Order> savedOrders = orderRepository.saveAllAndFlush(orders);
+        List<OrderView> views = orderViewRepository.saveAll(savedOrders.stream().map(OrderView::of).toList());
+        for (int i = 0; i < views.size(); i++) {
+            int index = orderIndexes.get(i);
+            results[index] = OrderBatchResultDTO.created(index, toResponseDTO(views.get(i)));
+        }
+
+        return List.of(results);
     }
 
     /**
      * Updates an existing order with new data.
+     * <p>
+     * The update is applied with optimistic locking: if the order is modified concurrently
+     * between the read and the write, the write fails with an
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException} instead of
+     * overwriting the other change.
+     * </p>
      *
-     * @param id  the ID of the order to update.
-     * @param dto the data transfer object containing the updated order details.
+     * @param id              the ID of the order to update.
+     * @param dto             the data transfer object containing the updated order details.
+     * @param expectedVersion the version the caller based the update on, or {@code null} to update any version.
      * @return an {@link OrderResponseDTO} representing the updated order.
-     * @throws NotFoundException if the order, client, or item specified cannot be found.
+     * @throws NotFoundException           if the order, client, or item specified cannot be found.
+     * @throws PreconditionFailedException if {@code expectedVersion} is not the current version of the order.
      */
-    public OrderResponseDTO updateOrder(Long id, OrderCreateDTO dto) {
+    @Transactional
+    public OrderResponseDTO updateOrder(Long id, OrderCreateDTO dto, Long expectedVersion) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found with id " + id));
 
-        Client client = clientRepository.findById(dto.clientId())
-                .orElseThrow(() -> new NotFoundException("Client not found with id " + dto.clientId()));
-
-        Item item = itemRepository.findById(dto.itemId())
-                .orElseThrow(() -> new NotFoundException("Item not found with id " + dto.itemId()));
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion()))
+            throw new PreconditionFailedException("Order " + id + " has been modified, current version is " + order.getVersion());
 
-        order.setClient(client);
-        order.setItem(item);
+        order.setClient(clientRepository.getReferenceById(dto.clientId()));
+        order.setItem(itemRepository.getReferenceById(dto.itemId()));
         order.setPurchaseDate(dto.purchaseDate());
         order.setDeliveryDate(dto.deliveryDate());
 
-        Order updated = orderRepository.save(order);
-        return toResponseDTO(updated);
+        Order updated = saveAndFlush(orderRepository, order,
+                "Client not found with id " + dto.clientId(),
+                "Item not found with id " + dto.itemId());
+        return toResponseDTO(updateView(orderRepository, orderViewRepository, updated));
     }
 
     /**
@@ -114,6 +264,7 @@ public class OrderService {
      * @param id the ID of the order to delete.
      * @throws NotFoundException if no order exists with the specified ID.
      */
+    @Transactional
     public void deleteOrder(Long id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found with id " + id));
@@ -121,18 +272,120 @@ public class OrderService {
     }
 
     /**
-     * Converts an {@link Order} entity to an {@link OrderResponseDTO}.
+     * Saves an order and flushes it, so that a client or item attached as a reference that does
+     * not exist is detected by the foreign keys of {@code orders} within the call.
+     * <p>
+     * Only when the write is rejected are the client and item probed, to tell which one is missing.
+     * This does not depend on the names of the constraints, which differ between databases created
+     * by the Flyway migrations and older ones, nor on the wording of the driver's message.
+     * </p>
+     *
+     * @param orderRepository the repository to save the order with.
+     * @param order           the new or modified order.
+     * @param clientNotFound  the message if the client of the order does not exist.
+     * @param itemNotFound    the message if the item of the order does not exist.
+     * @return the saved order.
+     * @throws NotFoundException if the client or item of the order does not exist.
+     */
+    static Order saveAndFlush(OrderRepository orderRepository, Order order, String clientNotFound, String itemNotFound) {
+        try {
+            return orderRepository.saveAndFlush(order);
+        } catch (DataIntegrityViolationException e) {
+            if (!orderRepository.clientExists(order.getClient().getId()))
+                throw new NotFoundException(clientNotFound);
+            if (!orderRepository.itemExists(order.getItem().getId()))
+                throw new NotFoundException(itemNotFound);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the missing rows of the {@link OrderView order view}, for orders written without
+     * the services (e.g. directly in the database).
+     * <p>
+     * Orders are walked in ID ranges of {@value #RECONCILE_BATCH_SIZE}, each in a transaction of its
+     * own, so a large table is neither scanned nor locked in one statement. Run as a one-off step
+     * after such writes, e.g. through {@link com.pikolinc.meliecommerce.config.OrderViewConfig}.
+     * </p>
+     *
+     * @return the number of orders whose row was created.
+     */
+    public int reconcileOrderView() {
+        long maxId = orderRepository.findMaxId();
+        int inserted = 0;
+        for (long afterId = 0; afterId < maxId; afterId += RECONCILE_BATCH_SIZE)
+            inserted += insertMissingViews(afterId, Math.min(afterId + RECONCILE_BATCH_SIZE, maxId));
+        return inserted;
+    }
+
+    private int insertMissingViews(long afterId, long lastId) {
+        try {
+            return orderViewRepository.insertMissing(afterId, lastId);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance inserted some of the same rows concurrently; only the rest are left
+            return orderViewRepository.insertMissing(afterId, lastId);
+        }
+    }
+
+    /**
+     * Records a new order in the {@link OrderView order view}.
+     * <p>
+     * The client and item are read from the database first, bypassing the second-level cache: a
+     * cached entry may be up to its expiry old, e.g. a price changed through another instance, and
+     * the snapshot must hold the price the order is placed at.
+     * </p>
+     *
+     * @param orderRepository     the repository the client and item are read with.
+     * @param orderViewRepository the repository of the order view.
+     * @param order               the saved order.
+     * @return the new row.
+     */
+    static OrderView createView(OrderRepository orderRepository, OrderViewRepository orderViewRepository, Order order) {
+        orderRepository.findClientAndItem(order.getClient().getId(), order.getItem().getId());
+        return orderViewRepository.save(OrderView.of(order));
+    }
+
+    /**
+     * Applies an update of an order to its row of the {@link OrderView order view}. When the order
+     * moved to another client or item, they are read from the database as in {@link #createView}.
+     * <p>
+     * An order without a row, i.e. written without the services (legacy scripts, bulk SQL) since the
+     * last {@link #reconcileOrderView()}, gets one: the update must not fail because the read model
+     * lags behind. Its snapshot then holds the current client and item.
+     * </p>
+     *
+     * @param orderRepository     the repository the client and item are read with.
+     * @param orderViewRepository the repository of the order view.
+     * @param order               the updated order, flushed so its version is current.
+     * @return the updated or created row, written when the transaction commits.
+     */
+    static OrderView updateView(OrderRepository orderRepository, OrderViewRepository orderViewRepository, Order order) {
+        Optional<OrderView> existing = orderViewRepository.findById(order.getId());
+        if (existing.isEmpty())
+            return createView(orderRepository, orderViewRepository, order);
+        OrderView view = existing.get();
+        if (!order.getClient().getId().equals(view.getClientId()) || !order.getItem().getId().equals(view.getItemId()))
+            orderRepository.findClientAndItem(order.getClient().getId(), order.getItem().getId());
+        return view.update(order);
+    }
+
+    /**
+     * Converts a row of the {@link OrderView order view} to an {@link OrderResponseDTO}.
+     * The client and item are the ones recorded when the order was placed.
      *
-     * @param order the order entity to convert.
+     * @param order the order view to convert.
      * @return an {@link OrderResponseDTO} containing detailed order information.
      */
-    public static OrderResponseDTO toResponseDTO(Order order) {
+    public static OrderResponseDTO toResponseDTO(OrderView order) {
         return new OrderResponseDTO(
-                order.getId(),
-                ClientService.toResponseDTO(order.getClient()),
-                ItemService.toResponseDTO(order.getItem()),
+                order.getOrderId(),
+                new ClientResponseDTO(order.getClientId(), order.getClientName(), order.getClientAddress(),
+                        order.getClientAge(), order.getClientVersion()),
+                new ItemResponseDTO(order.getItemId(), order.getItemName(), order.getItemDescription(),
+                        order.getItemPrice(), order.getItemVersion()),
                 order.getPurchaseDate(),
-                order.getDeliveryDate()
+                order.getDeliveryDate(),
+                order.getOrderVersion()
         );
     }
 }
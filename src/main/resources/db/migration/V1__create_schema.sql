@@ -0,0 +1,36 @@
+-- ---------------------------------------------------------------------------
+-- Base schema: clients, items and orders.
+--
+-- IDs are assigned by Hibernate from one sequence per table using the
+-- pooled-lo optimizer; INCREMENT BY must match the @SequenceGenerator
+-- allocationSize (50) or schema validation fails at startup.
+--
+-- Runs on both H2 (dev/test) and PostgreSQL (prod).
+-- ---------------------------------------------------------------------------
+CREATE SEQUENCE clients_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE clients (
+    id      BIGINT PRIMARY KEY,
+    name    TEXT,
+    address TEXT,
+    age     INT
+);
+
+CREATE TABLE items (
+    id          BIGINT PRIMARY KEY,
+    name        TEXT,
+    description TEXT,
+    price       DOUBLE PRECISION NOT NULL
+);
+
+CREATE TABLE orders (
+    id            BIGINT PRIMARY KEY,
+    id_client     BIGINT,
+    id_item       BIGINT,
+    purchase_date DATE,
+    delivery_date DATE,
+    CONSTRAINT fk_orders_client FOREIGN KEY (id_client) REFERENCES clients (id),
+    CONSTRAINT fk_orders_item FOREIGN KEY (id_item) REFERENCES items (id)
+);
@@ -0,0 +1,12 @@
+-- ---------------------------------------------------------------------------
+-- Secondary indexes on orders.
+--
+-- idx_orders_client_id           client-scoped listings (WHERE id_client = ?),
+--                                entries are already in ID order
+-- idx_orders_item_purchase_date  orders of an item by date; also keeps the
+--                                FK check on item deletes from scanning orders
+-- idx_orders_purchase_date       purchase date range reads over all orders
+-- ---------------------------------------------------------------------------
+CREATE INDEX IF NOT EXISTS idx_orders_client_id ON orders (id_client, id);
+CREATE INDEX IF NOT EXISTS idx_orders_item_purchase_date ON orders (id_item, purchase_date);
+CREATE INDEX IF NOT EXISTS idx_orders_purchase_date ON orders (purchase_date);
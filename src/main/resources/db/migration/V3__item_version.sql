@@ -0,0 +1,8 @@
+-- ---------------------------------------------------------------------------
+-- Optimistic-lock version of items (Item#version).
+--
+-- Incremented by Hibernate on every update; GET /api/v1/items/{id} also uses it
+-- as the strong ETag of the item. Existing rows start at version 0.
+-- ---------------------------------------------------------------------------
+
+ALTER TABLE items ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
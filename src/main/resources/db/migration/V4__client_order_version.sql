@@ -0,0 +1,9 @@
+-- ---------------------------------------------------------------------------
+-- Optimistic-lock versions of clients and orders (Client#version, Order#version).
+--
+-- Incremented by Hibernate on every update, so concurrent updates of the same
+-- row fail instead of overwriting each other. Existing rows start at version 0.
+-- ---------------------------------------------------------------------------
+
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,48 @@
+-- ---------------------------------------------------------------------------
+-- order_view: denormalized read model of orders (OrderView).
+--
+-- One row per order holding everything an order response needs, so order
+-- listings, lookups and the export read a single table without joining
+-- clients and items. Rows are written by the order services in the same
+-- transaction as the order, and removed with it (ON DELETE CASCADE).
+--
+-- The client and item columns are a snapshot taken when the order is placed
+-- (and when an update moves it to another client or item): item_price is the
+-- price paid, not the current price of the item.
+--
+-- idx_order_view_client_id      client-scoped listings, already in ID order
+-- idx_order_view_purchase_date  purchase date ranges of the export
+--
+-- Existing orders are copied with the current client and item data, the best
+-- snapshot available.
+-- ---------------------------------------------------------------------------
+CREATE TABLE order_view (
+    order_id         BIGINT PRIMARY KEY,
+    order_version    BIGINT NOT NULL,
+    purchase_date    DATE,
+    delivery_date    DATE,
+    client_id        BIGINT,
+    client_name      TEXT,
+    client_address   TEXT,
+    client_age       INT,
+    client_version   BIGINT,
+    item_id          BIGINT,
+    item_name        TEXT,
+    item_description TEXT,
+    item_price       DOUBLE PRECISION,
+    item_version     BIGINT,
+    CONSTRAINT fk_order_view_order FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_order_view_client_id ON order_view (client_id, order_id);
+CREATE INDEX idx_order_view_purchase_date ON order_view (purchase_date);
+
+INSERT INTO order_view (order_id, order_version, purchase_date, delivery_date,
+                        client_id, client_name, client_address, client_age, client_version,
+                        item_id, item_name, item_description, item_price, item_version)
+SELECT o.id, o.version, o.purchase_date, o.delivery_date,
+       c.id, c.name, c.address, c.age, c.version,
+       i.id, i.name, i.description, i.price, i.version
+FROM orders o
+         LEFT JOIN clients c ON c.id = o.id_client
+         LEFT JOIN items i ON i.id = o.id_item;
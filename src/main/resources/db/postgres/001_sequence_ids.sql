@@ -0,0 +1,27 @@
+-- ---------------------------------------------------------------------------
+-- Moves clients, items and orders from IDENTITY/serial IDs to sequences
+-- consumed by Hibernate's pooled-lo optimizer (allocationSize = 50).
+--
+-- Each sequence returns the first ID of a block of 50, which lets Hibernate
+-- assign IDs without a round trip per insert and send inserts in JDBC batches.
+-- The INCREMENT BY must match the @SequenceGenerator allocationSize, otherwise
+-- schema validation fails at startup.
+-- ---------------------------------------------------------------------------
+BEGIN;
+
+ALTER TABLE clients ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE clients ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS clients_seq INCREMENT BY 50;
+SELECT setval('clients_seq', COALESCE((SELECT MAX(id) FROM clients), 0) + 1, false);
+
+ALTER TABLE items ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50;
+SELECT setval('items_seq', COALESCE((SELECT MAX(id) FROM items), 0) + 1, false);
+
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS orders_seq INCREMENT BY 50;
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 1, false);
+
+COMMIT;
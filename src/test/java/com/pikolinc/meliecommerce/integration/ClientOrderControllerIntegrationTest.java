@@ -1,12 +1,14 @@
 package com.pikolinc.meliecommerce.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchCreateForClientDTO;
 import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateForClientDTO;
 import com.pikolinc.meliecommerce.domain.entity.Client;
 import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.repository.ClientRepository;
 import com.pikolinc.meliecommerce.repository.ItemRepository;
 import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +19,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +48,9 @@ class ClientOrderControllerIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
     @BeforeEach
     void cleanDatabase() {
         orderRepository.deleteAll();
@@ -83,6 +93,82 @@ class ClientOrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.itemResponseDTO.price").value(item.getPrice()));
     }
 
+    @Test
+    void testCreateOrdersForClient_batch() throws Exception {
+        Client client = clientRepository.save(Client.builder()
+                .name("Daniel Vargas")
+                .age(20)
+                .address("Home")
+                .build());
+
+        Item item = itemRepository.save(Item.builder()
+                .name("Test item")
+                .description("Expensive item")
+                .price(1000.0)
+                .build());
+
+        OrderBatchCreateForClientDTO dto = new OrderBatchCreateForClientDTO(List.of(
+                new OrderCreateForClientDTO(item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)),
+                new OrderCreateForClientDTO(999_999L, LocalDate.now(), LocalDate.now().plusDays(1))
+        ));
+
+        mockMvc.perform(post("/api/v1/clients/{clientId}/orders/batch", client.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is(201)))
+                .andExpect(jsonPath("$[0].order.clientResponseDTO.id").value(client.getId()))
+                .andExpect(jsonPath("$[1].status", is(404)));
+    }
+
+    @Test
+    void testCreateOrdersForClient_batch_largerThanJdbcBatch() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Daniel Vargas").age(20).address("Home").build());
+        Item item = itemRepository.save(Item.builder().name("Test item").description("Expensive item").price(1000.0).build());
+
+        // More rows than hibernate.jdbc.batch_size (50), so orders and order_view rows span several batches
+        List<OrderCreateForClientDTO> orders = new ArrayList<>();
+        for (int i = 0; i < 120; i++)
+            orders.add(new OrderCreateForClientDTO(item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        mockMvc.perform(post("/api/v1/clients/{clientId}/orders/batch", client.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderBatchCreateForClientDTO(orders))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(120)))
+                .andExpect(jsonPath("$[119].order.itemResponseDTO.price", is(1000.0)));
+
+        assertEquals(120, orderRepository.countByClientId(client.getId()));
+        assertEquals(120, orderViewRepository.count());
+
+        mockMvc.perform(get("/api/v1/clients/{clientId}/orders?page=0&size=200", client.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(120)));
+    }
+
+    @Test
+    void testGetOrdersByClientId_invalidPageSize() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Daniel Vargas").age(20).address("Home").build());
+
+        for (String size : List.of("0", "-1", "1001")) {
+            mockMvc.perform(get("/api/v1/clients/{clientId}/orders", client.getId()).param("size", size))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void testCreateOrdersForClient_batch_clientNotFound() throws Exception {
+        OrderBatchCreateForClientDTO dto = new OrderBatchCreateForClientDTO(List.of(
+                new OrderCreateForClientDTO(1L, LocalDate.now(), LocalDate.now().plusDays(1))
+        ));
+
+        mockMvc.perform(post("/api/v1/clients/{clientId}/orders/batch", 999)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetOrdersByClientId_notFound() throws Exception {
         mockMvc.perform(get("/api/v1/clients/{clientId}/orders", 999))
@@ -0,0 +1,52 @@
+package com.pikolinc.meliecommerce.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConnectionPoolMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testPoolMetrics_registeredForNamedPool() {
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "meli-pool").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").tag("pool", "meli-pool").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "meli-pool").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "meli-pool").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.timeout").tag("pool", "meli-pool").counter());
+    }
+
+    @Test
+    void testPoolMetrics_acquireTimeExposedByActuator() throws Exception {
+        mockMvc.perform(get("/api/v1/items"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.acquire"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[*].values[*]", hasItem("meli-pool")))
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+    }
+
+    @Test
+    void testPoolMetrics_acquirePercentilesPublished() {
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire.percentile")
+                .tags("pool", "meli-pool", "phi", "0.99").gauge());
+    }
+}
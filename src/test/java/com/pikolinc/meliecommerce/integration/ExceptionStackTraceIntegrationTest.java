@@ -0,0 +1,90 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.exception.ForbiddenException;
+import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.exception.ResponseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExceptionStackTraceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testDomainExceptions_skipStackTrace() {
+        assertEquals(0, new NotFoundException("Item not found").getStackTrace().length);
+        assertEquals(0, new ForbiddenException("Not your order").getStackTrace().length);
+    }
+
+    @Test
+    void testSubclass_canCaptureStackTrace() {
+        ResponseException exception = new ResponseException("Traced", true) {
+            @Override
+            public HttpStatus getHttpStatus() {
+                return HttpStatus.INTERNAL_SERVER_ERROR;
+            }
+        };
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testStackTraceProperty_capturesStackTrace() throws Exception {
+        // The property is read when ResponseException is loaded, so the exceptions are loaded again in
+        // a class loader of their own instead of changing the ones shared by the other tests
+        URL classes = ResponseException.class.getProtectionDomain().getCodeSource().getLocation();
+        System.setProperty(ResponseException.STACK_TRACES_PROPERTY, "true");
+        try (URLClassLoader classLoader = new ExceptionClassLoader(classes, getClass().getClassLoader())) {
+            Class<?> notFound = classLoader.loadClass(NotFoundException.class.getName());
+            assertNotSame(NotFoundException.class, notFound);
+
+            Throwable exception = (Throwable) notFound.getConstructor(String.class).newInstance("Item not found");
+            assertTrue(exception.getStackTrace().length > 0);
+        } finally {
+            System.clearProperty(ResponseException.STACK_TRACES_PROPERTY);
+        }
+    }
+
+    @Test
+    void testNotFound_responseUnchanged() throws Exception {
+        mockMvc.perform(get("/api/v1/items/999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.message", is("Item not found with id 999999")));
+    }
+
+    /** Loads the exception classes itself rather than delegating to its parent. */
+    private static class ExceptionClassLoader extends URLClassLoader {
+
+        ExceptionClassLoader(URL classes, ClassLoader parent) {
+            super(new URL[]{classes}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(ResponseException.class.getPackageName() + "."))
+                return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+}
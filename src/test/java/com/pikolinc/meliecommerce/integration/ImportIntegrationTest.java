@@ -0,0 +1,178 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.config.ImportProperties;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImportIntegrationTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void cleanDatabase() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    void testImportItems_csv_allRowsInSeveralBatches() throws Exception {
+        StringBuilder csv = new StringBuilder("name,description,price\n");
+        for (int i = 0; i < 1200; i++)
+            csv.append("Item ").append(i).append(",\"Description, ").append(i).append("\",").append(10 + i).append('\n');
+
+        mockMvc.perform(post("/api/v1/items/import")
+                        .contentType(TEXT_CSV)
+                        .content(csv.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported", is(1200)))
+                .andExpect(jsonPath("$.rejected", is(0)))
+                .andExpect(jsonPath("$.errors", hasSize(0)))
+                .andExpect(jsonPath("$.httpStatus").doesNotExist());
+
+        assertEquals(1200, itemRepository.count());
+    }
+
+    @Test
+    void testImportItems_csv_reportsRejectedRows() throws Exception {
+        String csv = """
+                price,name
+                10.5,Mouse
+                -1,Keyboard
+                abc,Monitor
+
+                20,
+                30,Webcam,extra
+                40,Headset
+                """;
+
+        mockMvc.perform(post("/api/v1/items/import")
+                        .contentType(TEXT_CSV)
+                        .content(csv))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(4)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)))
+                .andExpect(jsonPath("$.errors[0].message", is("price: Price must be positive")))
+                .andExpect(jsonPath("$.errors[1].line", is(4)))
+                .andExpect(jsonPath("$.errors[1].message", startsWith("Malformed row")))
+                .andExpect(jsonPath("$.errors[2].line", is(6)))
+                .andExpect(jsonPath("$.errors[2].message", is("name: Name is required")))
+                .andExpect(jsonPath("$.errors[3].line", is(7)));
+
+        assertEquals(2, itemRepository.count());
+    }
+
+    @Test
+    void testImportItems_csv_headerParsedLikeRows() throws Exception {
+        // Byte order mark, quoted and space-padded column names, as written by spreadsheet exports
+        String csv = "\uFEFF\"name\", description ,\"price\"\n"
+                + "Mouse,\"Wireless, 2.4 GHz\",25\n";
+
+        mockMvc.perform(post("/api/v1/items/import")
+                        .contentType(TEXT_CSV)
+                        .content(csv))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported", is(1)));
+
+        assertEquals("Wireless, 2.4 GHz", itemRepository.findAll().get(0).getDescription());
+    }
+
+    @Test
+    void testImportProperties_batchSizeMustBePositive() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+                .withUserConfiguration(ImportPropertiesConfiguration.class)
+                .withPropertyValues("app.import.batch-size=0")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @EnableConfigurationProperties(ImportProperties.class)
+    static class ImportPropertiesConfiguration {
+    }
+
+    @Test
+    void testImportItems_csv_unknownColumn() throws Exception {
+        mockMvc.perform(post("/api/v1/items/import")
+                        .contentType(TEXT_CSV)
+                        .content("name,colour\nMouse,red\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("colour")));
+
+        assertEquals(0, itemRepository.count());
+    }
+
+    @Test
+    void testImportClients_ndjson_reportsRejectedRows() throws Exception {
+        String ndjson = """
+                {"name":"Ana","address":"Calle 1","age":30}
+                {"name":"Luis","address":"Calle 2","age":-4}
+                {"name":"Eva",
+                {"name":"Sofia","age":41}
+                null
+                """;
+
+        mockMvc.perform(post("/api/v1/clients/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(3)))
+                .andExpect(jsonPath("$.errors[*].line", contains(2, 3, 5)))
+                .andExpect(jsonPath("$.errors[0].message", startsWith("age: ")))
+                .andExpect(jsonPath("$.errors[1].message", startsWith("Malformed row")))
+                .andExpect(jsonPath("$.errors[2].message", is("Empty row")));
+
+        assertEquals(2, clientRepository.count());
+    }
+
+    @Test
+    void testImportClients_errorListIsCapped() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 150; i++)
+            ndjson.append("{\"name\":\"\",\"age\":20}\n");
+        ndjson.append("{\"name\":\"Valid\",\"age\":20}\n");
+
+        mockMvc.perform(post("/api/v1/clients/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson.toString()))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(150)))
+                .andExpect(jsonPath("$.errors", hasSize(100)));
+    }
+}
@@ -3,24 +3,35 @@ package com.pikolinc.meliecommerce.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemCreateDTO;
 import com.pikolinc.meliecommerce.domain.dto.item.ItemUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.page.CursorPage;
+import com.pikolinc.meliecommerce.domain.dto.page.PageHeaders;
 import com.pikolinc.meliecommerce.domain.entity.Item;
 import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@ActiveProfiles("test")
 class ItemControllerIntegrationTest {
 
     @Autowired
@@ -29,11 +40,18 @@ class ItemControllerIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private OrderRepository orderRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setup() {
+        orderRepository.deleteAll();
         itemRepository.deleteAll();
     }
 
@@ -49,6 +67,23 @@ class ItemControllerIntegrationTest {
                 .andExpect(content().json("[]"));
     }
 
+    @Test
+    void testGetAllItems_invalidPageSize() throws Exception {
+        itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+
+        for (String size : List.of("0", "-1", "1001", String.valueOf(Integer.MAX_VALUE))) {
+            mockMvc.perform(get("/api/v1/items").param("size", size))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/items").param("after", "").param("size", size))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(get("/api/v1/items").param("page", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items").param("size", "1000"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void testGetAllItems_success() throws Exception {
         itemRepository.saveAll(List.of(
@@ -65,6 +100,61 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].name", is("Mouse")));
     }
 
+    @Test
+    void testGetAllItems_totalOnlyWhenRequested() throws Exception {
+        itemRepository.saveAll(List.of(
+                Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build(),
+                Item.builder().name("Mouse").description("Wireless Mouse").price(25.0).build()
+        ));
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist(PageHeaders.TOTAL_COUNT));
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("size", "1")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string(PageHeaders.TOTAL_COUNT, "2"));
+    }
+
+    @Test
+    void testGetAllItems_cursorPagination() throws Exception {
+        itemRepository.saveAll(List.of(
+                Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build(),
+                Item.builder().name("Mouse").description("Wireless Mouse").price(25.0).build(),
+                Item.builder().name("Screen").description("27 inch Screen").price(300.0).build()
+        ));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/items")
+                        .param("after", "")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("Laptop")))
+                .andExpect(jsonPath("$[1].name", is("Mouse")))
+                .andExpect(header().exists(CursorPage.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("after", firstPage.getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER))
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Screen")))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGetAllItems_invalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/items")
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     // --------------------------------------------------
     // GET SINGLE ITEM
     // --------------------------------------------------
@@ -81,6 +171,75 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.price", is(300.0)));
     }
 
+    @Test
+    void testGetItemById_etagAndCacheControl() throws Exception {
+        Item savedItem = itemRepository.save(
+                Item.builder().name("Tablet").description("Android Tablet").price(300.0).build()
+        );
+
+        mockMvc.perform(get("/api/v1/items/" + savedItem.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void testGetItemById_notModified() throws Exception {
+        Item savedItem = itemRepository.save(
+                Item.builder().name("Tablet").description("Android Tablet").price(300.0).build()
+        );
+
+        mockMvc.perform(get("/api/v1/items/" + savedItem.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetItemById_notModified_fromTheCachedVersion() throws Exception {
+        Item savedItem = itemRepository.save(
+                Item.builder().name("Tablet").description("Android Tablet").price(300.0).build()
+        );
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/items/" + savedItem.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"7\", W/\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        // The item was put in the second-level cache when it was saved
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetItemById_notModified_unknownItem() throws Exception {
+        mockMvc.perform(get("/api/v1/items/999999").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetItemById_modifiedAfterUpdate() throws Exception {
+        Item savedItem = itemRepository.save(
+                Item.builder().name("Tablet").description("Android Tablet").price(300.0).build()
+        );
+
+        ItemUpdateDTO update = new ItemUpdateDTO("Tablet Pro", "Android Tablet", 350.0);
+        mockMvc.perform(put("/api/v1/items/" + savedItem.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/items/" + savedItem.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name", is("Tablet Pro")));
+    }
+
     @Test
     void testGetItemById_notFound() throws Exception {
         mockMvc.perform(get("/api/v1/items/999"))
@@ -133,6 +292,61 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.price", is(120.0)));
     }
 
+    @Test
+    void testUpdateItem_ifMatchCurrentVersion() throws Exception {
+        Item existing = itemRepository.save(
+                Item.builder().name("Keyboard").description("Mechanical Keyboard").price(100.0).build()
+        );
+
+        ItemUpdateDTO updateDTO = new ItemUpdateDTO("Keyboard Pro", "RGB Keyboard", 120.0);
+
+        mockMvc.perform(put("/api/v1/items/" + existing.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name", is("Keyboard Pro")));
+    }
+
+    @Test
+    void testUpdateItem_ifMatchStaleVersion() throws Exception {
+        Item existing = itemRepository.save(
+                Item.builder().name("Keyboard").description("Mechanical Keyboard").price(100.0).build()
+        );
+
+        ItemUpdateDTO updateDTO = new ItemUpdateDTO("Keyboard Pro", "RGB Keyboard", 120.0);
+        mockMvc.perform(put("/api/v1/items/" + existing.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        ItemUpdateDTO staleDTO = new ItemUpdateDTO("Keyboard Lite", "Membrane Keyboard", 60.0);
+        mockMvc.perform(put("/api/v1/items/" + existing.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(staleDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/items/" + existing.getId()))
+                .andExpect(jsonPath("$.name", is("Keyboard Pro")));
+    }
+
+    @Test
+    void testUpdateItem_ifMatchWeakTag() throws Exception {
+        Item existing = itemRepository.save(
+                Item.builder().name("Keyboard").description("Mechanical Keyboard").price(100.0).build()
+        );
+
+        ItemUpdateDTO updateDTO = new ItemUpdateDTO("Keyboard Pro", "RGB Keyboard", 120.0);
+        mockMvc.perform(put("/api/v1/items/" + existing.getId())
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void testUpdateItem_notFound() throws Exception {
         ItemUpdateDTO updateDTO = new ItemUpdateDTO("Nonexistent", "Missing", 200.0);
@@ -0,0 +1,109 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LazyAssociationIntegrationTest {
+
+    private static final int ORDER_COUNT = 100_000;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Item popularItem;
+
+    private Client client;
+
+    @BeforeEach
+    void seedDatabase() {
+        cleanDatabase();
+        client = clientRepository.save(Client.builder().name("Client").address("Street").age(30).build());
+        popularItem = itemRepository.save(Item.builder().name("Popular").description("Ordered a lot").price(10.0).build());
+
+        // Plain SQL: far above the IDs handed out by orders_seq in the tests
+        jdbcTemplate.update("insert into orders (id, id_client, id_item, purchase_date, delivery_date, version)"
+                        + " select x + 100000000, ?, ?, current_date, current_date, 0 from system_range(1, ?)",
+                client.getId(), popularItem.getId(), ORDER_COUNT);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        // deleteAll() would load every order
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from clients");
+        jdbcTemplate.update("delete from items");
+    }
+
+    @Test
+    void testEntitiesWithManyOrders_equalsHashCodeToStringLeaveOrdersUnloaded() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Item item = itemRepository.findById(popularItem.getId()).orElseThrow();
+            Client loadedClient = clientRepository.findById(client.getId()).orElseThrow();
+
+            Set<Item> items = new HashSet<>(Set.of(item));
+            assertTrue(items.contains(popularItem));
+            assertEquals(popularItem, item);
+            assertEquals(popularItem.hashCode(), item.hashCode());
+            assertTrue(item.toString().contains("Popular"));
+            assertEquals(client, loadedClient);
+            assertTrue(loadedClient.toString().contains("Street"));
+
+            assertFalse(Hibernate.isInitialized(item.getOrders()));
+            assertFalse(Hibernate.isInitialized(loadedClient.getOrders()));
+        });
+
+        assertEquals(0, statistics.getCollectionLoadCount());
+        // at most the item and the client, unless they came from the second-level cache
+        assertTrue(statistics.getEntityLoadCount() <= 2, statistics.getEntityLoadCount() + " entities loaded");
+    }
+
+    @Test
+    void testUnsavedEntities_areOnlyEqualToThemselves() {
+        // also covers @Builder.Default: built entities start with an empty, not a null, list
+        Item first = Item.builder().name("Same").price(1.0).build();
+        Item second = Item.builder().name("Same").price(1.0).build();
+
+        assertNotEquals(first, second);
+        assertEquals(first, first);
+        assertNotNull(first.getOrders());
+    }
+}
@@ -0,0 +1,94 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.config.MetricsConfig;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        item = itemRepository.save(Item.builder()
+                .name("Monitor")
+                .description("27 inch")
+                .price(300.0)
+                .build());
+    }
+
+    @Test
+    void testServiceTimer_recordsEveryServiceMethod() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + item.getId()))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tags("class", ItemService.class.getName(), "method", "getItemById")
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() > 0);
+    }
+
+    @Test
+    void testRouteTimer_tagsUriTemplate() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + item.getId()))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("http.server.requests")
+                .tags("uri", "/api/v1/items/{id}", "method", "GET")
+                .timer());
+    }
+
+    @Test
+    void testHibernateMetrics_bound() throws Exception {
+        mockMvc.perform(get("/api/v1/items"))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "items", "result", "hit").functionCounter());
+    }
+
+    @Test
+    void testPrometheusEndpoint_exposesHistograms() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + item.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("meli_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")));
+    }
+}
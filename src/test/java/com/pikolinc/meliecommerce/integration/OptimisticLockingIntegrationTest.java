@@ -0,0 +1,178 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.domain.dto.client.ClientUpdateDTO;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OptimisticLockingIntegrationTest {
+
+    private static final int CONCURRENT_UPDATES = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Client client;
+
+    private Order order;
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        client = clientRepository.save(Client.builder().name("John Doe").address("123 Street").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+        order = orderRepository.save(Order.builder()
+                .client(client)
+                .item(item)
+                .purchaseDate(LocalDate.now())
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .build());
+        orderViewRepository.save(OrderView.of(order));
+    }
+
+    @Test
+    void testSaveStaleEntity_failsInsteadOfOverwriting() {
+        Client stale = clientRepository.findById(client.getId()).orElseThrow();
+
+        Client fresh = clientRepository.findById(client.getId()).orElseThrow();
+        fresh.setName("Fresh Name");
+        clientRepository.save(fresh);
+
+        stale.setName("Stale Name");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> clientRepository.save(stale));
+        assertEquals("Fresh Name", clientRepository.findById(client.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testConcurrentUpdates_neverLoseAcknowledgedWrites() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPDATES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+                ClientUpdateDTO update = new ClientUpdateDTO("Name " + i, "Street " + i, 30 + i);
+                String body = objectMapper.writeValueAsString(update);
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(put("/api/v1/clients/{id}", client.getId())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Integer> status : statuses) {
+                int code = status.get();
+                assertTrue(code == 200 || code == 409, "unexpected status " + code);
+                if (code == 200)
+                    succeeded++;
+            }
+
+            // Every acknowledged update produced exactly one new version.
+            assertTrue(succeeded > 0);
+            assertEquals(succeeded, clientRepository.findById(client.getId()).orElseThrow().getVersion());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetOrder_sendsVersionETag() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/v1/clients/{clientId}/orders/{orderId}", client.getId(), order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    void testUpdateOrder_ifMatchStaleVersion() throws Exception {
+        String body = "{\"itemId\":" + order.getItem().getId()
+                + ",\"purchaseDate\":\"" + LocalDate.now() + "\""
+                + ",\"deliveryDate\":\"" + LocalDate.now().plusDays(3) + "\"}";
+
+        mockMvc.perform(put("/api/v1/clients/{clientId}/orders/{orderId}", client.getId(), order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put("/api/v1/clients/{clientId}/orders/{orderId}", client.getId(), order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testUpdateClient_ifMatchCurrentVersion() throws Exception {
+        ClientUpdateDTO update = new ClientUpdateDTO("Jane Doe", "456 Avenue", 31);
+
+        mockMvc.perform(put("/api/v1/clients/{id}", client.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(get("/api/v1/clients/{id}", client.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+}
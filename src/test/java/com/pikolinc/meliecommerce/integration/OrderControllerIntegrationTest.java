@@ -1,13 +1,433 @@
 package com.pikolinc.meliecommerce.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderBatchCreateDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateForClientDTO;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import com.pikolinc.meliecommerce.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
 class OrderControllerIntegrationTest {
 
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderService orderService;
+
+    @BeforeEach
+    void cleanDatabase() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
     @Test
     void contextLoads() {
 
     }
+
+    // --------------------------------------------------
+    // CREATE / UPDATE
+    // --------------------------------------------------
+    @Test
+    void testGetAllOrders_invalidPageSize() throws Exception {
+        saveOrders(3, LocalDate.now());
+
+        for (String size : List.of("0", "-1", "1001", String.valueOf(Integer.MAX_VALUE))) {
+            mockMvc.perform(get("/api/v1/orders").param("after", "").param("size", size))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("size")));
+        }
+    }
+
+    @Test
+    void testCreateOrder_success() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+
+        OrderCreateDTO dto = new OrderCreateDTO(client.getId(), item.getId(), LocalDate.now(), LocalDate.now().plusDays(1));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.clientResponseDTO.name", is("Maria")))
+                .andExpect(jsonPath("$.itemResponseDTO.name", is("Phone")));
+    }
+
+    @Test
+    void testCreateOrder_unknownClientOrItem() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(999_999L, item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Client not found with id 999999")));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), 999_999L, LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Item not found with id 999999")));
+
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    void testCreateOrder_unknownClientOrItem_legacyConstraintNames() throws Exception {
+        // Databases created before Flyway and baselined at version 2 keep the names of the old data.sql
+        jdbcTemplate.execute("ALTER TABLE orders RENAME CONSTRAINT fk_orders_client TO fk_client");
+        jdbcTemplate.execute("ALTER TABLE orders RENAME CONSTRAINT fk_orders_item TO fk_item");
+        try {
+            testCreateOrder_unknownClientOrItem();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE orders RENAME CONSTRAINT fk_client TO fk_orders_client");
+            jdbcTemplate.execute("ALTER TABLE orders RENAME CONSTRAINT fk_item TO fk_orders_item");
+        }
+    }
+
+    @Test
+    void testUpdateOrder_unknownItem() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Order order = orderRepository.save(Order.builder().client(client).item(item)
+                .purchaseDate(LocalDate.now()).deliveryDate(LocalDate.now().plusDays(1)).build());
+
+        mockMvc.perform(put("/api/v1/orders/{id}", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), 999_999L, LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Item not found with id 999999")));
+
+        assertEquals(item.getId(), orderRepository.findById(order.getId()).orElseThrow().getItem().getId());
+    }
+
+    @Test
+    void testOrderView_keepsPriceAtPurchase() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item phone = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Item tablet = itemRepository.save(Item.builder().name("Tablet").description("10 inch").price(300.0).build());
+
+        MvcResult created = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), phone.getId(), LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long orderId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(put("/api/v1/items/{id}", phone.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Phone\",\"description\":\"Smartphone\",\"price\":950.0}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemResponseDTO.price", is(800.0)));
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(800.0)));
+
+        // same item: the purchase price is kept
+        mockMvc.perform(put("/api/v1/orders/{id}", orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), phone.getId(), LocalDate.now(), LocalDate.now().plusDays(5)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(800.0)))
+                .andExpect(jsonPath("$.deliveryDate", is(LocalDate.now().plusDays(5).toString())));
+
+        // another item: priced at its current price
+        mockMvc.perform(put("/api/v1/orders/{id}", orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), tablet.getId(), LocalDate.now(), LocalDate.now().plusDays(5)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemResponseDTO.name", is("Tablet")))
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(300.0)));
+        mockMvc.perform(get("/api/v1/clients/{clientId}/orders", client.getId()))
+                .andExpect(jsonPath("$[0].itemResponseDTO.price", is(300.0)));
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    @Test
+    void testOrderView_snapshotIsReadFromTheDatabase() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Item other = itemRepository.save(Item.builder().name("Tablet").description("10 inch").price(300.0).build());
+
+        // Changed by another instance: this JVM's second-level cache still holds the old values
+        jdbcTemplate.update("UPDATE items SET price = price + 100, version = version + 1");
+        jdbcTemplate.update("UPDATE clients SET name = 'Maria Jose', version = version + 1");
+
+        MvcResult created = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(900.0)))
+                .andExpect(jsonPath("$.clientResponseDTO.name", is("Maria Jose")))
+                .andReturn();
+        long orderId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(put("/api/v1/clients/{clientId}/orders/{orderId}", client.getId(), orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateForClientDTO(other.getId(), LocalDate.now(), LocalDate.now().plusDays(1)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(400.0)));
+    }
+
+    @Test
+    void testOrderView_reconcilesOrdersWrittenWithoutTheServices() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Order order = orderRepository.save(Order.builder().client(client).item(item)
+                .purchaseDate(LocalDate.now()).deliveryDate(LocalDate.now().plusDays(1)).build());
+        // Beyond the first range of IDs walked by the reconcile
+        long bulkOrderId = 25_000;
+        jdbcTemplate.update("INSERT INTO orders (id, id_client, id_item, purchase_date, delivery_date, version)"
+                + " VALUES (?, ?, ?, ?, ?, 0)", bulkOrderId, client.getId(), item.getId(), LocalDate.now(), LocalDate.now());
+
+        assertEquals(2, orderService.reconcileOrderView());
+        assertEquals(0, orderService.reconcileOrderView());
+
+        mockMvc.perform(get("/api/v1/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(800.0)))
+                .andExpect(jsonPath("$.clientResponseDTO.name", is("Maria")));
+        mockMvc.perform(get("/api/v1/orders/{id}", bulkOrderId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testUpdateOrder_withoutOrderViewRow_createsIt() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Order order = orderRepository.save(Order.builder().client(client).item(item)
+                .purchaseDate(LocalDate.now()).deliveryDate(LocalDate.now().plusDays(1)).build());
+        orderViewRepository.save(OrderView.of(order));
+        orderViewRepository.deleteById(order.getId());
+
+        LocalDate deliveryDate = LocalDate.now().plusDays(2);
+        mockMvc.perform(put("/api/v1/orders/{id}", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new OrderCreateDTO(client.getId(), item.getId(), LocalDate.now(), deliveryDate))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemResponseDTO.price", is(800.0)));
+
+        assertEquals(deliveryDate, orderViewRepository.findById(order.getId()).orElseThrow().getDeliveryDate());
+        mockMvc.perform(get("/api/v1/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientResponseDTO.name", is("Maria")));
+    }
+
+    @Test
+    void testDeleteOrder_removesOrderView() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+        Order order = orderRepository.save(Order.builder().client(client).item(item)
+                .purchaseDate(LocalDate.now()).deliveryDate(LocalDate.now().plusDays(1)).build());
+        orderViewRepository.save(OrderView.of(order));
+
+        mockMvc.perform(delete("/api/v1/orders/{id}", order.getId()))
+                .andExpect(status().isNoContent());
+
+        assertFalse(orderViewRepository.existsById(order.getId()));
+        mockMvc.perform(get("/api/v1/orders/{id}", order.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    // --------------------------------------------------
+    // BATCH CREATE
+    // --------------------------------------------------
+    @Test
+    void testCreateOrders_batch_allCreated() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Juan").address("Calle 1").age(25).build());
+        Item item = itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+
+        List<OrderCreateDTO> orders = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            orders.add(new OrderCreateDTO(client.getId(), item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)));
+        }
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderBatchCreateDTO(orders))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(120)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is(201)))
+                .andExpect(jsonPath("$[0].order.id", notNullValue()))
+                .andExpect(jsonPath("$[119].order.itemResponseDTO.name", is("Laptop")));
+
+        assertEquals(120, orderRepository.count());
+        assertEquals(120, orderViewRepository.count());
+    }
+
+    @Test
+    void testCreateOrders_batch_reportsMissingReferencesPerRow() throws Exception {
+        Client client = clientRepository.save(Client.builder().name("Maria").address("Calle 2").age(30).build());
+        Item item = itemRepository.save(Item.builder().name("Phone").description("Smartphone").price(800.0).build());
+
+        List<OrderCreateDTO> orders = List.of(
+                new OrderCreateDTO(client.getId(), item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)),
+                new OrderCreateDTO(999_999L, item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)),
+                new OrderCreateDTO(client.getId(), 999_999L, LocalDate.now(), LocalDate.now().plusDays(1))
+        );
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderBatchCreateDTO(orders))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status", is(201)))
+                .andExpect(jsonPath("$[1].status", is(404)))
+                .andExpect(jsonPath("$[1].message", containsString("Client not found")))
+                .andExpect(jsonPath("$[2].status", is(404)))
+                .andExpect(jsonPath("$[2].message", containsString("Item not found")));
+
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    void testCreateOrders_batch_validationError() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderBatchCreateDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    // --------------------------------------------------
+    // EXPORT
+    // --------------------------------------------------
+    private List<JsonNode> export(String query) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export" + query))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.isEmpty() || body.endsWith("\n"));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.lines().toList())
+            lines.add(objectMapper.readTree(line));
+        return lines;
+    }
+
+    private void saveOrders(int count, LocalDate firstPurchaseDate) {
+        Client client = clientRepository.save(Client.builder().name("Ana").address("Calle 3").age(40).build());
+        Item item = itemRepository.save(Item.builder().name("Tablet").description("10 inch").price(300.0).build());
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDate purchaseDate = firstPurchaseDate.plusDays(i % 10);
+            orders.add(Order.builder().client(client).item(item)
+                    .purchaseDate(purchaseDate).deliveryDate(purchaseDate.plusDays(2)).build());
+        }
+        orderViewRepository.saveAll(orderRepository.saveAll(orders).stream().map(OrderView::of).toList());
+    }
+
+    @Test
+    void testExportOrders_oneLinePerOrderInIdOrder() throws Exception {
+        // More rows than the fetch size, so the persistence context is cleared while streaming
+        saveOrders(1200, LocalDate.of(2025, 1, 1));
+
+        List<JsonNode> lines = export("");
+
+        assertEquals(1200, lines.size());
+        for (int i = 1; i < lines.size(); i++)
+            assertTrue(lines.get(i).get("id").asLong() > lines.get(i - 1).get("id").asLong());
+        JsonNode first = lines.get(0);
+        assertEquals("Ana", first.get("clientResponseDTO").get("name").asText());
+        assertEquals("Tablet", first.get("itemResponseDTO").get("name").asText());
+        assertEquals("2025-01-01", first.get("purchaseDate").asText());
+        assertFalse(first.has("version"));
+    }
+
+    @Test
+    void testExportOrders_purchaseDateRangeInclusive() throws Exception {
+        saveOrders(100, LocalDate.of(2025, 1, 1));
+
+        List<JsonNode> lines = export("?from=2025-01-03&to=2025-01-04");
+
+        assertEquals(20, lines.size());
+        for (JsonNode line : lines)
+            assertTrue(Set.of("2025-01-03", "2025-01-04").contains(line.get("purchaseDate").asText()));
+
+        assertEquals(30, export("?to=2025-01-03").size());
+        assertEquals(10, export("?from=2025-01-10").size());
+    }
+
+    @Test
+    void testExportOrders_noOrders() throws Exception {
+        assertEquals(0, export("").size());
+    }
+
+    @Test
+    void testExportOrders_fromAfterTo() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/export?from=2025-02-01&to=2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
 }
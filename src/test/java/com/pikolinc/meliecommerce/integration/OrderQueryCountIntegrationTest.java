@@ -0,0 +1,263 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderCreateForClientDTO;
+import com.pikolinc.meliecommerce.domain.dto.order.OrderResponseDTO;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.domain.entity.Order;
+import com.pikolinc.meliecommerce.domain.entity.OrderView;
+import com.pikolinc.meliecommerce.exception.ForbiddenException;
+import com.pikolinc.meliecommerce.exception.NotFoundException;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import com.pikolinc.meliecommerce.repository.OrderViewRepository;
+import com.pikolinc.meliecommerce.service.ClientOrderService;
+import com.pikolinc.meliecommerce.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderQueryCountIntegrationTest {
+
+    private static final int ORDER_COUNT = 150;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ClientOrderService clientOrderService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Client firstClient;
+
+    private Order firstClientOrder;
+
+    private Order otherClientOrder;
+
+    @BeforeEach
+    void seedDatabase() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+        itemRepository.deleteAll();
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            // Every order gets its own item; every other order belongs to the first client
+            // so the client-scoped listing has more than one page to read from.
+            Client client = clientRepository.save(Client.builder()
+                    .name("Client " + i)
+                    .address("Street " + i)
+                    .age(20 + i % 50)
+                    .build());
+
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .price(10.0 + i)
+                    .build());
+
+            if (i == 0) {
+                firstClient = client;
+            }
+
+            orders.add(Order.builder()
+                    .client(i % 2 == 0 ? firstClient : client)
+                    .item(item)
+                    .purchaseDate(LocalDate.now())
+                    .deliveryDate(LocalDate.now().plusDays(1))
+                    .build());
+        }
+        orders = orderRepository.saveAll(orders);
+        orderViewRepository.saveAll(orders.stream().map(OrderView::of).toList());
+        firstClientOrder = orders.get(0);
+        otherClientOrder = orders.get(1);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetAllOrders_onePageIsOneSelect() {
+        List<OrderResponseDTO> orders = orderService.getAllOrders(PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, orders.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetOrdersByClientId_onePageIsOneSelect() {
+        List<OrderResponseDTO> orders = clientOrderService.getOrdersByClientId(
+                firstClient.getId(), PageRequest.of(0, 50));
+
+        assertEquals(50, orders.size());
+        assertEquals(firstClient.getId(), orders.get(0).clientResponseDTO().id());
+        assertTrue(orders.get(0).id() < orders.get(49).id());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetOrdersByClientId_clientWithoutOrdersIsOneSelect() {
+        Client client = clientRepository.save(Client.builder().name("No orders").address("Street").age(30).build());
+        statistics.clear();
+
+        assertTrue(clientOrderService.getOrdersByClientId(client.getId(), PageRequest.of(0, 50)).isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetOrdersByClientId_emptyPageOrUnknownClient() {
+        assertTrue(clientOrderService.getOrdersByClientId(firstClient.getId(), PageRequest.of(10, 50)).isEmpty());
+        assertThrows(NotFoundException.class,
+                () -> clientOrderService.getOrdersByClientId(Long.MAX_VALUE, PageRequest.of(0, 50)));
+    }
+
+    @Test
+    void testGetOrderByClientAndId_isOneSelect() {
+        OrderResponseDTO order = clientOrderService.getOrderByClientAndId(firstClient.getId(), firstClientOrder.getId());
+
+        assertEquals(firstClientOrder.getId(), order.id());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetOrderByClientAndId_otherClient_isForbiddenAfterOneProbe() {
+        assertThrows(ForbiddenException.class,
+                () -> clientOrderService.getOrderByClientAndId(firstClient.getId(), otherClientOrder.getId()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testDeleteOrder_isOneDelete() {
+        clientOrderService.deleteOrder(firstClient.getId(), firstClientOrder.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(orderRepository.existsById(firstClientOrder.getId()));
+    }
+
+    @Test
+    void testDeleteOrder_ownershipFailures() {
+        assertThrows(ForbiddenException.class,
+                () -> clientOrderService.deleteOrder(firstClient.getId(), otherClientOrder.getId()));
+        assertThrows(NotFoundException.class,
+                () -> clientOrderService.deleteOrder(firstClient.getId(), Long.MAX_VALUE));
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertTrue(orderRepository.existsById(otherClientOrder.getId()));
+    }
+
+    @Test
+    void testCreateOrder_readsClientAndItemWithOneQuery() {
+        Item item = itemRepository.findAll().get(0);
+        statistics.clear();
+
+        OrderResponseDTO order = orderService.createOrder(
+                new OrderCreateDTO(firstClient.getId(), item.getId(), LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        // the order, one select of client and item for the snapshot, the view row (plus at most a sequence call)
+        assertEquals(item.getName(), order.itemResponseDTO().name());
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 4, statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void testCreateOrder_unknownItemIsRejectedByForeignKey() {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> orderService.createOrder(
+                new OrderCreateDTO(firstClient.getId(), Long.MAX_VALUE, LocalDate.now(), LocalDate.now().plusDays(1))));
+
+        assertEquals("Item not found with id " + Long.MAX_VALUE, exception.getMessage());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(ORDER_COUNT, orderRepository.count());
+    }
+
+    @Test
+    void testUpdateOrder_doesNotLoadClientOrItem() {
+        Order order = orderRepository.findById(otherClientOrder.getId()).orElseThrow();
+        Long clientId = order.getClient().getId();
+        Long itemId = order.getItem().getId();
+        statistics.clear();
+
+        orderService.updateOrder(order.getId(),
+                new OrderCreateDTO(clientId, itemId, LocalDate.now(), LocalDate.now().plusDays(2)), null);
+        clientOrderService.updateOrder(firstClient.getId(), firstClientOrder.getId(),
+                new OrderCreateForClientDTO(firstClientOrder.getItem().getId(), LocalDate.now(), LocalDate.now().plusDays(3)), null);
+
+        assertClientAndItemNotRead();
+    }
+
+    @Test
+    void testDeleteOrder_doesNotLoadClientOrItem() {
+        orderService.deleteOrder(otherClientOrder.getId());
+
+        assertFalse(orderRepository.existsById(otherClientOrder.getId()));
+        assertClientAndItemNotRead();
+    }
+
+    @Test
+    void testSaveAllOrders_insertsAreBatched() {
+        Item item = itemRepository.findAll().get(0);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(Order.builder()
+                    .client(firstClient)
+                    .item(item)
+                    .purchaseDate(LocalDate.now())
+                    .deliveryDate(LocalDate.now().plusDays(1))
+                    .build());
+        }
+        statistics.clear();
+
+        orderRepository.saveAll(orders);
+
+        // at most two sequence calls (blocks of 50 IDs) and two JDBC batches of 50 inserts,
+        // instead of one statement per inserted order
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 4, "Expected batched inserts but " + statements + " statements were prepared");
+    }
+
+    /** Neither selected nor taken from the second-level cache. */
+    private void assertClientAndItemNotRead() {
+        for (Class<?> entity : List.of(Client.class, Item.class)) {
+            EntityStatistics entityStatistics = statistics.getEntityStatistics(entity.getName());
+            assertEquals(0, entityStatistics.getLoadCount() + entityStatistics.getFetchCount()
+                    + entityStatistics.getCacheHitCount(), entity.getSimpleName() + " was read");
+        }
+    }
+}
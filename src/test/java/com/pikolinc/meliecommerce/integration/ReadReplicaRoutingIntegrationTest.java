@@ -0,0 +1,102 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.domain.dto.item.ItemCreateDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against a primary H2 database and two replica pools on a second H2 database,
+ * migrated separately, so each row reveals which database served it.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.replicas[1].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:meli-replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void testRead_servedByReplica() throws Exception {
+        replica.update("INSERT INTO items (id, name, description, price) VALUES (900001, 'Replica only', 'x', 1.0)");
+
+        mockMvc.perform(get("/api/v1/items/900001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Replica only")));
+    }
+
+    @Test
+    void testWrite_goesToPrimary() throws Exception {
+        ItemCreateDTO dto = new ItemCreateDTO("Written to primary", "y", 2.0);
+
+        mockMvc.perform(post("/api/v1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        String count = "SELECT COUNT(*) FROM items WHERE name = 'Written to primary'";
+        assertEquals(1, primary.queryForObject(count, Integer.class));
+        assertEquals(0, replica.queryForObject(count, Integer.class));
+    }
+
+    @Test
+    void testReplicas_usedInTurn() throws Exception {
+        for (int i = 0; i < 4; i++)
+            mockMvc.perform(get("/api/v1/items"))
+                    .andExpect(status().isOk());
+
+        for (String pool : new String[]{"meli-pool-replica-1", "meli-pool-replica-2"}) {
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+            assertNotNull(acquire);
+            assertTrue(acquire.count() >= 2);
+        }
+    }
+}
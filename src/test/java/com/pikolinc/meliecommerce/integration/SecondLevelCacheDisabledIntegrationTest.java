@@ -0,0 +1,78 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The second-level cache switched off, as the prod profile does by default for multi-instance deployments.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheDisabledIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testGetItemById_everyReadGoesToTheDatabase() throws Exception {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        Item item = itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Laptop")));
+
+        assertFalse(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+    }
+
+    @Test
+    void testGetItemById_notModified_selectsOnlyTheVersion() throws Exception {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        Item item = itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
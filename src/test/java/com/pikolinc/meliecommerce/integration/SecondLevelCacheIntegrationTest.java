@@ -0,0 +1,154 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikolinc.meliecommerce.domain.dto.client.ClientUpdateDTO;
+import com.pikolinc.meliecommerce.domain.dto.item.ItemUpdateDTO;
+import com.pikolinc.meliecommerce.domain.entity.Client;
+import com.pikolinc.meliecommerce.domain.entity.Item;
+import com.pikolinc.meliecommerce.repository.ClientRepository;
+import com.pikolinc.meliecommerce.repository.ItemRepository;
+import com.pikolinc.meliecommerce.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    private Item item;
+
+    private Client client;
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        item = itemRepository.save(Item.builder().name("Laptop").description("Gaming Laptop").price(1200.0).build());
+        client = clientRepository.save(Client.builder().name("John Doe").address("123 Street").age(30).build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetItemById_secondReadIsServedFromCache() throws Exception {
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Laptop")));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("items").getHitCount());
+    }
+
+    @Test
+    void testUpdateItem_refreshesCachedEntry() throws Exception {
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+
+        ItemUpdateDTO update = new ItemUpdateDTO("Laptop Pro", "Faster Gaming Laptop", 1500.0);
+        mockMvc.perform(put("/api/v1/items/{id}", item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Laptop Pro")))
+                .andExpect(jsonPath("$.price", is(1500.0)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testDeleteItem_evictsCachedEntry() throws Exception {
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/items/{id}", item.getId())).andExpect(status().isNoContent());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isNotFound());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("items").getHitCount());
+    }
+
+    @Test
+    void testUpdateClient_refreshesCachedEntry() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/{id}", client.getId())).andExpect(status().isOk());
+
+        ClientUpdateDTO update = new ClientUpdateDTO("Jane Doe", "456 Avenue", 31);
+        mockMvc.perform(put("/api/v1/clients/{id}", client.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/clients/{id}", client.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Jane Doe")));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testDeleteClient_evictsCachedEntry() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/{id}", client.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/clients/{id}", client.getId())).andExpect(status().isNoContent());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/clients/{id}", client.getId())).andExpect(status().isNotFound());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("clients").getHitCount());
+    }
+
+    @Test
+    void testCacheMetrics_areRegisteredPerRegion() throws Exception {
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/items/{id}", item.getId())).andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("cache.gets").tags("cache", "items", "result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.gets").tags("cache", "clients", "result", "miss").functionCounter());
+    }
+}
@@ -0,0 +1,48 @@
+package com.pikolinc.meliecommerce.integration;
+
+import com.pikolinc.meliecommerce.MeliEcommerceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsProfileIntegrationTest {
+
+    private static final String[] ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:virtual-threads",
+            "--spring.main.banner-mode=off"
+    };
+
+    private static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(MeliEcommerceApplication.class)
+                .profiles("test", "virtual-threads")
+                .web(WebApplicationType.NONE);
+    }
+
+    @Test
+    void testVirtualThreadsProfile_failsBeforeJava21() {
+        assumeTrue(Runtime.version().feature() < 21);
+
+        Exception exception = assertThrows(Exception.class, () -> application().run(ARGS).close());
+        Throwable cause = exception;
+        while (cause.getCause() != null)
+            cause = cause.getCause();
+
+        assertTrue(cause instanceof IllegalStateException);
+        assertTrue(cause.getMessage().contains("requires Java 21"));
+    }
+
+    @Test
+    void testVirtualThreadsProfile_enablesVirtualThreadsOnJava21() {
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        try (ConfigurableApplicationContext context = application().run(ARGS)) {
+            assertTrue(Threading.VIRTUAL.isActive(context.getEnvironment()));
+        }
+    }
+}